@@ -0,0 +1,14 @@
+package com.lab2.annotation;
+
+import com.lab2.limit.LimitGroup;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConcurrencyLimited {
+    LimitGroup value();
+}
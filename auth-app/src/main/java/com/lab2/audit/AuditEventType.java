@@ -0,0 +1,19 @@
+package com.lab2.audit;
+
+public enum AuditEventType {
+    REGISTRATION("registration"),
+    LOGIN("login"),
+    TOKEN_REFRESH("token_refresh"),
+    TOKEN_INVALIDATION("token_invalidation"),
+    ALL_TOKENS_INVALIDATION("all_tokens_invalidation");
+
+    private final String wireName;
+
+    AuditEventType(String wireName) {
+        this.wireName = wireName;
+    }
+
+    public String getWireName() {
+        return wireName;
+    }
+}
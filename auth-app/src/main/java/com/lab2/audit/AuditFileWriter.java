@@ -0,0 +1,196 @@
+package com.lab2.audit;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+final class AuditFileWriter implements Closeable {
+
+    static final String FILE_PREFIX = "audit-";
+    static final String FILE_SUFFIX = ".jsonl.gz";
+
+    private static final DateTimeFormatter FILE_TIME =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS").withZone(ZoneOffset.UTC);
+    private static final byte[] HEX = "0123456789abcdef".getBytes();
+    private static final byte[] TIMESTAMP_FIELD = "{\"ts\":".getBytes();
+    private static final byte[] EVENT_FIELD = ",\"event\":\"".getBytes();
+    private static final byte[] SUCCESS_FIELD = "\",\"success\":".getBytes();
+    private static final byte[] SUBJECT_FIELD = ",\"subject\":".getBytes();
+    private static final byte[] DETAIL_FIELD = ",\"detail\":".getBytes();
+    private static final byte[] TRUE = "true".getBytes();
+    private static final byte[] FALSE = "false".getBytes();
+    private static final byte[] NULL = "null".getBytes();
+    private static final byte[][] EVENT_NAMES = Arrays.stream(AuditEventType.values())
+            .map(type -> type.getWireName().getBytes())
+            .toArray(byte[][]::new);
+
+    private final Path directory;
+    private final long maxFileBytes;
+    private final int maxFiles;
+
+    private byte[] buffer = new byte[64 * 1024];
+    private int length;
+    private OutputStream out;
+    private long fileBytes;
+
+    AuditFileWriter(Path directory, long maxFileBytes, int maxFiles) {
+        this.directory = directory;
+        this.maxFileBytes = maxFileBytes;
+        this.maxFiles = maxFiles;
+    }
+
+    void append(long timestamp, AuditEventType type, boolean success,
+                char[] subject, int subjectLength, char[] detail, int detailLength) {
+        ensureCapacity(128 + 6 * (subjectLength + detailLength));
+        put(TIMESTAMP_FIELD);
+        putLong(timestamp);
+        put(EVENT_FIELD);
+        put(EVENT_NAMES[type.ordinal()]);
+        put(SUCCESS_FIELD);
+        put(success ? TRUE : FALSE);
+        put(SUBJECT_FIELD);
+        putString(subject, subjectLength);
+        put(DETAIL_FIELD);
+        putString(detail, detailLength);
+        buffer[length++] = '}';
+        buffer[length++] = '\n';
+    }
+
+    void flush() throws IOException {
+        if (length == 0) {
+            return;
+        }
+        try {
+            if (out == null || fileBytes >= maxFileBytes) {
+                rotate();
+            }
+            out.write(buffer, 0, length);
+            out.flush();
+            fileBytes += length;
+        } finally {
+            length = 0;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            if (out != null) {
+                out.close();
+                out = null;
+            }
+        }
+    }
+
+    private void rotate() throws IOException {
+        if (out != null) {
+            out.close();
+            out = null;
+        }
+        Files.createDirectories(directory);
+        long millis = System.currentTimeMillis();
+        Path file;
+        do {
+            file = directory.resolve(FILE_PREFIX + FILE_TIME.format(Instant.ofEpochMilli(millis++)) + FILE_SUFFIX);
+        } while (Files.exists(file));
+        out = new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 64 * 1024), 64 * 1024, true);
+        fileBytes = 0;
+        deleteOldFiles();
+    }
+
+    private void deleteOldFiles() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, FILE_PREFIX + "*" + FILE_SUFFIX)) {
+            stream.forEach(files::add);
+        }
+        if (files.size() <= maxFiles) {
+            return;
+        }
+        Collections.sort(files);
+        for (Path file : files.subList(0, files.size() - maxFiles)) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + extra));
+        }
+    }
+
+    private void put(byte[] bytes) {
+        System.arraycopy(bytes, 0, buffer, length, bytes.length);
+        length += bytes.length;
+    }
+
+    private void putLong(long value) {
+        if (value < 0) {
+            buffer[length++] = '-';
+            value = -value;
+        }
+        int start = length;
+        do {
+            buffer[length++] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        for (int i = start, j = length - 1; i < j; i++, j--) {
+            byte swap = buffer[i];
+            buffer[i] = buffer[j];
+            buffer[j] = swap;
+        }
+    }
+
+    private void putString(char[] chars, int count) {
+        if (count < 0) {
+            put(NULL);
+            return;
+        }
+        buffer[length++] = '"';
+        for (int i = 0; i < count; i++) {
+            char c = chars[i];
+            if (c == '"' || c == '\\') {
+                buffer[length++] = '\\';
+                buffer[length++] = (byte) c;
+            } else if (c < 0x20) {
+                buffer[length++] = '\\';
+                buffer[length++] = 'u';
+                buffer[length++] = '0';
+                buffer[length++] = '0';
+                buffer[length++] = HEX[c >> 4];
+                buffer[length++] = HEX[c & 0xF];
+            } else if (c < 0x80) {
+                buffer[length++] = (byte) c;
+            } else if (c < 0x800) {
+                buffer[length++] = (byte) (0xC0 | (c >> 6));
+                buffer[length++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < count && Character.isLowSurrogate(chars[i + 1])) {
+                int codePoint = Character.toCodePoint(c, chars[++i]);
+                buffer[length++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[length++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[length++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                buffer[length++] = '?';
+            } else {
+                buffer[length++] = (byte) (0xE0 | (c >> 12));
+                buffer[length++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[length++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        buffer[length++] = '"';
+    }
+}
@@ -0,0 +1,19 @@
+package com.lab2.audit;
+
+public interface AuditTrail {
+
+    AuditTrail NONE = new AuditTrail() {
+        @Override
+        public void record(AuditEventType type, boolean success, String subject, String detail) {
+        }
+
+        @Override
+        public long droppedCount() {
+            return 0;
+        }
+    };
+
+    void record(AuditEventType type, boolean success, String subject, String detail);
+
+    long droppedCount();
+}
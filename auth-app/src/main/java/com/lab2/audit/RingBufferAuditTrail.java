@@ -0,0 +1,220 @@
+package com.lab2.audit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+@Component
+public class RingBufferAuditTrail implements AuditTrail, MeterBinder, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(RingBufferAuditTrail.class);
+
+    static final int MAX_SUBJECT_LENGTH = 64;
+    static final int MAX_DETAIL_LENGTH = 160;
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5000;
+
+    private final boolean enabled;
+    private final Set<String> ignoredSubjects;
+    private final int batchSize;
+    private final Slot[] slots;
+    private final int mask;
+    private final AtomicLongArray published;
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong consumed = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AuditFileWriter writer;
+
+    private volatile Thread worker;
+    private volatile boolean running = true;
+
+    @Autowired
+    public RingBufferAuditTrail(@Value("${audit.enabled:true}") boolean enabled,
+                                @Value("${audit.directory:audit}") String directory,
+                                @Value("${audit.buffer-size:8192}") int bufferSize,
+                                @Value("${audit.batch-size:256}") int batchSize,
+                                @Value("${audit.max-file-bytes:16777216}") long maxFileBytes,
+                                @Value("${audit.max-files:20}") int maxFiles,
+                                @Value("${audit.ignored-subjects:warmup_probe}") String[] ignoredSubjects) {
+        if (bufferSize <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("Розмір буфера та пакета аудиту повинні бути додатніми");
+        }
+        int capacity = Integer.highestOneBit(Math.max(2, bufferSize) - 1) << 1;
+        this.enabled = enabled;
+        this.ignoredSubjects = Arrays.stream(ignoredSubjects)
+                .map(String::trim)
+                .filter(subject -> !subject.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+        this.batchSize = batchSize;
+        this.slots = new Slot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot();
+        }
+        this.mask = capacity - 1;
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1);
+        }
+        this.writer = new AuditFileWriter(Path.of(directory), maxFileBytes, maxFiles);
+    }
+
+    @Override
+    public void record(AuditEventType type, boolean success, String subject, String detail) {
+        if (!enabled || (subject != null && ignoredSubjects.contains(subject))) {
+            return;
+        }
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - consumed.get() >= slots.length) {
+                dropped.increment();
+                return;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+
+        int index = (int) sequence & mask;
+        Slot slot = slots[index];
+        slot.timestamp = System.currentTimeMillis();
+        slot.type = type;
+        slot.success = success;
+        slot.subjectLength = copy(subject, slot.subject);
+        slot.detailLength = copy(detail, slot.detail);
+        published.setRelease(index, sequence);
+        ensureStarted();
+    }
+
+    @Override
+    public long droppedCount() {
+        return dropped.sum();
+    }
+
+    public long writtenCount() {
+        return written.get();
+    }
+
+    public long backlog() {
+        return claimed.get() - consumed.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("auth.audit.dropped", this, RingBufferAuditTrail::droppedCount)
+                .description("Події аудиту, відкинуті через переповнений буфер")
+                .register(registry);
+        FunctionCounter.builder("auth.audit.written", this, RingBufferAuditTrail::writtenCount)
+                .register(registry);
+        FunctionCounter.builder("auth.audit.failed", this, trail -> trail.failed.get())
+                .description("Події аудиту, втрачені через помилку запису")
+                .register(registry);
+        Gauge.builder("auth.audit.backlog", this, RingBufferAuditTrail::backlog)
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        Thread thread = worker;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            thread.join(SHUTDOWN_TIMEOUT_MILLIS);
+        }
+    }
+
+    private void ensureStarted() {
+        if (worker == null) {
+            synchronized (this) {
+                if (worker == null && running) {
+                    Thread thread = new Thread(this::run, "audit-writer");
+                    thread.setDaemon(true);
+                    worker = thread;
+                    thread.start();
+                }
+            }
+        }
+    }
+
+    private void run() {
+        long next = 0;
+        try {
+            while (true) {
+                int drained = 0;
+                while (drained < batchSize) {
+                    int index = (int) next & mask;
+                    if (published.getAcquire(index) != next) {
+                        break;
+                    }
+                    Slot slot = slots[index];
+                    writer.append(slot.timestamp, slot.type, slot.success,
+                            slot.subject, slot.subjectLength, slot.detail, slot.detailLength);
+                    next++;
+                    drained++;
+                    consumed.setRelease(next);
+                }
+                if (drained > 0) {
+                    writeBatch(drained);
+                } else if (!running) {
+                    break;
+                } else {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+            }
+        } finally {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                logger.error("Помилка при закритті файлу аудиту: {}", e.getMessage());
+            }
+            logger.info("Запис аудиту зупинено. Записано подій: {}, відкинуто: {}", written.get(), dropped.sum());
+        }
+    }
+
+    private void writeBatch(int count) {
+        try {
+            writer.flush();
+            written.addAndGet(count);
+        } catch (IOException e) {
+            failed.addAndGet(count);
+            logger.error("Помилка запису пакета аудиту з {} подій: {}", count, e.getMessage());
+        }
+    }
+
+    private static int copy(String value, char[] target) {
+        if (value == null) {
+            return -1;
+        }
+        int length = Math.min(value.length(), target.length);
+        value.getChars(0, length, target, 0);
+        return length;
+    }
+
+    private static final class Slot {
+        long timestamp;
+        AuditEventType type;
+        boolean success;
+        final char[] subject = new char[MAX_SUBJECT_LENGTH];
+        int subjectLength;
+        final char[] detail = new char[MAX_DETAIL_LENGTH];
+        int detailLength;
+    }
+}
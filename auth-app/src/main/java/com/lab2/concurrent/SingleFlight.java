@@ -0,0 +1,88 @@
+package com.lab2.concurrent;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+public final class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicInteger leaders = new AtomicInteger();
+    private final int maxInFlight;
+
+    public SingleFlight(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> existing = inFlight.get(key);
+        if (existing != null) {
+            return await(existing);
+        }
+        // Місце в мапі резервується до вставки, тож межу не перевищать і паралельні лідери;
+        // без вільного місця запит виконується сам, не об'єднуючись з іншими
+        if (!reserve()) {
+            return loader.get();
+        }
+
+        CompletableFuture<V> leader = new CompletableFuture<>();
+        existing = inFlight.putIfAbsent(key, leader);
+        if (existing != null) {
+            leaders.decrementAndGet();
+            return await(existing);
+        }
+
+        V value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException | Error e) {
+            finish(key, leader);
+            leader.completeExceptionally(e);
+            throw e;
+        }
+        finish(key, leader);
+        leader.complete(value);
+        return value;
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private boolean reserve() {
+        while (true) {
+            int current = leaders.get();
+            if (current >= maxInFlight) {
+                return false;
+            }
+            if (leaders.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    // Ключ прибирається до завершення future: хто прийде після цього, почне новий виклик,
+    // а не отримає готовий результат чи виняток попереднього
+    private void finish(K key, CompletableFuture<V> leader) {
+        inFlight.remove(key, leader);
+        leaders.decrementAndGet();
+    }
+
+    private static <V> V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -2,13 +2,10 @@ package com.lab2.config;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.context.annotation.Import;
 
-@SpringBootApplication
-@Import(ComponentScanConfig.class)
+@SpringBootApplication(scanBasePackages = "com.lab2")
 public class AuthApplication {
     public static void main(String[] args) {
         SpringApplication.run(AuthApplication.class, args);
     }
 }
-
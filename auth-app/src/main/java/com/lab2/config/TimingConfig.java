@@ -0,0 +1,44 @@
+package com.lab2.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lab2.timing.HandlerTimingAdvice;
+import com.lab2.timing.SlowRequestLog;
+import com.lab2.timing.TimedJacksonConverter;
+import com.lab2.timing.TimingFilter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@ConditionalOnProperty(name = "timing.enabled", havingValue = "true")
+public class TimingConfig implements WebMvcConfigurer {
+
+    private final HandlerTimingAdvice handlerTimingAdvice;
+
+    @Autowired
+    public TimingConfig(HandlerTimingAdvice handlerTimingAdvice) {
+        this.handlerTimingAdvice = handlerTimingAdvice;
+    }
+
+    @Bean
+    public FilterRegistrationBean<TimingFilter> timingFilterRegistration(SlowRequestLog slowRequestLog) {
+        FilterRegistrationBean<TimingFilter> registration = new FilterRegistrationBean<>(new TimingFilter(slowRequestLog));
+        registration.setOrder(WebConfig.TIMING_FILTER_ORDER);
+        return registration;
+    }
+
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new TimedJacksonConverter(objectMapper);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(handlerTimingAdvice);
+    }
+}
@@ -0,0 +1,41 @@
+package com.lab2.config;
+
+import com.lab2.filter.ConcurrencyLimitFilter;
+import com.lab2.filter.HealthProbeFilter;
+import com.lab2.filter.TokenAuthenticationFilter;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class WebConfig {
+
+    public static final int HEALTH_PROBE_FILTER_ORDER = Ordered.HIGHEST_PRECEDENCE;
+    public static final int TIMING_FILTER_ORDER = Ordered.HIGHEST_PRECEDENCE + 10;
+    public static final int CONCURRENCY_LIMIT_FILTER_ORDER = Ordered.HIGHEST_PRECEDENCE + 50;
+    public static final int TOKEN_AUTHENTICATION_FILTER_ORDER = Ordered.HIGHEST_PRECEDENCE + 100;
+
+    @Bean
+    public FilterRegistrationBean<HealthProbeFilter> healthProbeFilterRegistration(HealthProbeFilter healthProbeFilter) {
+        FilterRegistrationBean<HealthProbeFilter> registration = new FilterRegistrationBean<>(healthProbeFilter);
+        registration.setOrder(HEALTH_PROBE_FILTER_ORDER);
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilterRegistration(
+            ConcurrencyLimitFilter concurrencyLimitFilter) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(concurrencyLimitFilter);
+        registration.setOrder(CONCURRENCY_LIMIT_FILTER_ORDER);
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<TokenAuthenticationFilter> tokenAuthenticationFilterRegistration(
+            TokenAuthenticationFilter tokenAuthenticationFilter) {
+        FilterRegistrationBean<TokenAuthenticationFilter> registration = new FilterRegistrationBean<>(tokenAuthenticationFilter);
+        registration.setOrder(TOKEN_AUTHENTICATION_FILTER_ORDER);
+        return registration;
+    }
+}
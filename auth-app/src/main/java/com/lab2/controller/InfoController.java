@@ -0,0 +1,43 @@
+package com.lab2.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+public class InfoController {
+
+    private final StaticResponse info;
+
+    @Autowired
+    public InfoController(ObjectMapper objectMapper) {
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        endpoints.put("register", "POST /api/auth/register");
+        endpoints.put("login", "POST /api/auth/login");
+        endpoints.put("apiInfo", "GET /api/auth/");
+        endpoints.put("revocations", "GET /api/auth/revocations?since={sequence}");
+        endpoints.put("liveness", "GET /livez");
+        endpoints.put("readiness", "GET /readyz");
+
+        Map<String, Object> info = new LinkedHashMap<>();
+        info.put("application", "Auth Application");
+        info.put("status", "running");
+        info.put("description", "Spring Boot application for user registration and authentication");
+        info.put("endpoints", endpoints);
+        info.put("note", "Use POST method with JSON body for register and login. You can also visit /api/auth/register or /api/auth/login with GET to see examples.");
+        this.info = StaticResponse.json(objectMapper, HttpStatus.OK, info);
+    }
+
+    @GetMapping("/")
+    public ResponseEntity<byte[]> info(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return info.toResponseEntity(ifNoneMatch);
+    }
+}
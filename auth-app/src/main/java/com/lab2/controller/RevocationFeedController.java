@@ -0,0 +1,57 @@
+package com.lab2.controller;
+
+import com.lab2.dto.RevocationFeedResponse;
+import com.lab2.revocation.RevocationLog;
+import com.lab2.verifier.RevocationFeedClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+// Стрічка містить імена користувачів і живе на публічному порту: без ключа endpoint просто не реєструється
+@RestController
+@ConditionalOnProperty(name = "revocations.feed.key")
+public class RevocationFeedController {
+
+    private static final Logger logger = LoggerFactory.getLogger(RevocationFeedController.class);
+
+    private final RevocationLog revocationLog;
+    private final byte[] feedKey;
+    private final int pageSize;
+
+    @Autowired
+    public RevocationFeedController(RevocationLog revocationLog,
+                                    @Value("${revocations.feed.key}") String feedKey,
+                                    @Value("${revocations.feed.page-size:1000}") int pageSize) {
+        // Ключ заданий, але порожній — помилка конфігурації, а не відкрита стрічка
+        if (feedKey.isBlank()) {
+            throw new IllegalArgumentException("Не задано ключ стрічки відкликань (revocations.feed.key)");
+        }
+        this.revocationLog = revocationLog;
+        this.feedKey = feedKey.getBytes(StandardCharsets.UTF_8);
+        this.pageSize = pageSize;
+    }
+
+    @GetMapping(RevocationFeedClient.FEED_PATH)
+    public ResponseEntity<RevocationFeedResponse> revocations(
+            @RequestParam(value = "since", defaultValue = "0") long since,
+            @RequestHeader(value = RevocationFeedClient.FEED_KEY_HEADER, required = false) String key) {
+        if (key == null || !MessageDigest.isEqual(feedKey, key.getBytes(StandardCharsets.UTF_8))) {
+            logger.warn("Запит стрічки відкликань з невірним ключем");
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        RevocationLog.Page page = revocationLog.since(Math.max(0, since), pageSize);
+        return ResponseEntity.ok(new RevocationFeedResponse(revocationLog.epoch(), page.sequence(), page.more(),
+                page.events()));
+    }
+}
@@ -0,0 +1,90 @@
+package com.lab2.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+
+public final class StaticResponse {
+
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic();
+    // Відповіді з помилками (405 на GET /register, /login) спільні кеші зберігати не повинні
+    private static final CacheControl NO_STORE = CacheControl.noStore();
+
+    private final HttpStatus status;
+    private final byte[] body;
+    private final String etag;
+
+    private StaticResponse(HttpStatus status, byte[] body) {
+        this.status = status;
+        this.body = body;
+        this.etag = computeEtag(body);
+    }
+
+    public static StaticResponse json(ObjectMapper objectMapper, HttpStatus status, Object payload) {
+        try {
+            return new StaticResponse(status, objectMapper.writeValueAsBytes(payload));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public ResponseEntity<byte[]> toResponseEntity(String ifNoneMatch) {
+        if (!status.is2xxSuccessful()) {
+            return ResponseEntity.status(status)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .contentLength(body.length)
+                    .cacheControl(NO_STORE)
+                    .body(body);
+        }
+        if (matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CACHE_CONTROL)
+                    .build();
+        }
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .contentLength(body.length)
+                .eTag(etag)
+                .cacheControl(CACHE_CONTROL)
+                .body(body);
+    }
+
+    private boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isEmpty()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String computeEtag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest).substring(0, 22) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 недоступний", e);
+        }
+    }
+}
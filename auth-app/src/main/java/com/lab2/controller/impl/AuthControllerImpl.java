@@ -0,0 +1,272 @@
+package com.lab2.controller.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lab2.annotation.ConcurrencyLimited;
+import com.lab2.annotation.RequiresToken;
+import com.lab2.controller.AuthController;
+import com.lab2.controller.StaticResponse;
+import com.lab2.dto.AuthResponse;
+import com.lab2.dto.LoginRequest;
+import com.lab2.dto.RegistrationRequest;
+import com.lab2.dto.TokenOperationResponse;
+import com.lab2.dto.TokenRefreshRequest;
+import com.lab2.idempotency.IdempotencyCache;
+import com.lab2.limit.LimitGroup;
+import com.lab2.model.TokenPair;
+import com.lab2.service.AuthService;
+import com.lab2.service.TokenService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindingResult;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/auth")
+public class AuthControllerImpl implements AuthController {
+    
+    private static final Logger logger = LoggerFactory.getLogger(AuthControllerImpl.class);
+
+    private static final TokenOperationResponse TOKEN_VALID = TokenOperationResponse.success("Токен дійсний");
+    
+    private final AuthService authService;
+    private final TokenService tokenService;
+    private final IdempotencyCache idempotencyCache;
+
+    private final StaticResponse info;
+    private final StaticResponse registerInfo;
+    private final StaticResponse loginInfo;
+
+    @Autowired
+    public AuthControllerImpl(AuthService authService, TokenService tokenService, IdempotencyCache idempotencyCache,
+                              ObjectMapper objectMapper) {
+        this.authService = authService;
+        this.tokenService = tokenService;
+        this.idempotencyCache = idempotencyCache;
+        this.info = StaticResponse.json(objectMapper, HttpStatus.OK, buildInfo());
+        this.registerInfo = StaticResponse.json(objectMapper, HttpStatus.METHOD_NOT_ALLOWED, buildRegisterInfo());
+        this.loginInfo = StaticResponse.json(objectMapper, HttpStatus.METHOD_NOT_ALLOWED, buildLoginInfo());
+    }
+
+    @GetMapping(value = {"", "/"})
+    public ResponseEntity<byte[]> info(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return info.toResponseEntity(ifNoneMatch);
+    }
+    
+    @GetMapping("/register")
+    public ResponseEntity<byte[]> registerInfo() {
+        return registerInfo.toResponseEntity(null);
+    }
+    
+    @GetMapping("/login")
+    public ResponseEntity<byte[]> loginInfo() {
+        return loginInfo.toResponseEntity(null);
+    }
+
+    @PostMapping("/register")
+    @ConcurrencyLimited(LimitGroup.CREDENTIALS)
+    @Override
+    public ResponseEntity<AuthResponse> register(@Valid @RequestBody RegistrationRequest request, BindingResult bindingResult,
+                                                 @RequestHeader(value = IdempotencyCache.IDEMPOTENCY_KEY_HEADER, required = false)
+                                                 String idempotencyKey, HttpServletRequest servletRequest) {
+        logger.info("Отримано запит на реєстрацію");
+        return idempotent("register", servletRequest, idempotencyKey, request,
+                () -> handleRegister(request, bindingResult));
+    }
+
+    private ResponseEntity<AuthResponse> handleRegister(RegistrationRequest request, BindingResult bindingResult) {
+        if (bindingResult.hasErrors()) {
+            String errors = bindingResult.getFieldErrors().stream()
+                    .map(error -> error.getField() + ": " + error.getDefaultMessage())
+                    .collect(Collectors.joining(", "));
+            logger.warn("Помилки валідації запиту на реєстрацію: {}", errors);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new AuthResponse(false, "Помилка валідації: " + errors, null));
+        }
+        
+        logger.info("Запит на реєстрацію пройшов початкову валідацію, передано в сервіс");
+        AuthResponse response = authService.register(request);
+        
+        if (response.isSuccess()) {
+            logger.info("Реєстрація успішна");
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } else {
+            logger.warn("Реєстрація не вдалася: {}", response.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        }
+    }
+
+    @PostMapping("/login")
+    @ConcurrencyLimited(LimitGroup.CREDENTIALS)
+    @Override
+    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request, BindingResult bindingResult,
+                                              @RequestHeader(value = IdempotencyCache.IDEMPOTENCY_KEY_HEADER, required = false)
+                                              String idempotencyKey, HttpServletRequest servletRequest) {
+        logger.info("Отримано запит на авторизацію для користувача: {}", request.getUsername());
+        return idempotent("login", servletRequest, idempotencyKey, request,
+                () -> handleLogin(request, bindingResult));
+    }
+
+    private ResponseEntity<AuthResponse> handleLogin(LoginRequest request, BindingResult bindingResult) {
+        if (bindingResult.hasErrors()) {
+            String errors = bindingResult.getFieldErrors().stream()
+                    .map(error -> error.getField() + ": " + error.getDefaultMessage())
+                    .collect(Collectors.joining(", "));
+            logger.warn("Помилки валідації запиту на авторизацію: {}", errors);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new AuthResponse(false, "Помилка валідації: " + errors, null));
+        }
+        
+        logger.info("Запит на авторизацію пройшов початкову валідацію, передано в сервіс");
+        AuthResponse response = authService.login(request);
+        
+        if (response.isSuccess()) {
+            logger.info("Авторизація успішна для користувача: {}", request.getUsername());
+            return ResponseEntity.ok(response);
+        } else {
+            logger.warn("Авторизація не вдалася: {}", response.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+        }
+    }
+
+    @PostMapping("/token/refresh")
+    public ResponseEntity<TokenOperationResponse> refreshToken(@Valid @RequestBody TokenRefreshRequest request,
+                                                               BindingResult bindingResult) {
+        logger.info("Отримано запит на оновлення токену");
+        
+        if (bindingResult.hasErrors()) {
+            logger.warn("Запит на оновлення токену не містить refresh-токену");
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(TokenOperationResponse.failure("Помилка валідації: refreshToken є обов'язковим"));
+        }
+        
+        try {
+            TokenPair tokens = tokenService.rotateRefreshToken(request.getRefreshToken());
+            
+            logger.info("Токен успішно оновлено");
+            return ResponseEntity.ok(new TokenOperationResponse(true, "Токен успішно оновлено", tokens));
+        } catch (Exception e) {
+            logger.warn("Помилка при оновленні токену: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(TokenOperationResponse.failure("Помилка при оновленні токену: " + e.getMessage()));
+        }
+    }
+
+    // Лише перевірка: токен уже перевірив фільтр автентифікації, стан не змінюється
+    @GetMapping("/token/validate")
+    @RequiresToken
+    public ResponseEntity<TokenOperationResponse> validateToken() {
+        logger.debug("Токен успішно перевірено");
+        return ResponseEntity.ok(TOKEN_VALID);
+    }
+
+    @PostMapping("/token/invalidate")
+    @RequiresToken
+    public ResponseEntity<TokenOperationResponse> invalidateToken(HttpServletRequest request) {
+        logger.info("Отримано запит на інвалідацію токену");
+        
+        String authHeader = request.getHeader("Authorization");
+        String token = authHeader != null && authHeader.startsWith("Bearer ") 
+                ? authHeader.substring(7) 
+                : null;
+        
+        try {
+            tokenService.invalidateToken(token);
+            
+            logger.info("Токен успішно інвалідовано");
+            return ResponseEntity.ok(TokenOperationResponse.success("Токен успішно інвалідовано"));
+        } catch (Exception e) {
+            logger.error("Помилка при інвалідації токену: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(TokenOperationResponse.failure("Помилка при інвалідації токену: " + e.getMessage()));
+        }
+    }
+
+    @PostMapping("/token/invalidate-all")
+    @RequiresToken
+    public ResponseEntity<TokenOperationResponse> invalidateAllTokens(HttpServletRequest request) {
+        logger.info("Отримано запит на інвалідацію всіх токенів користувача");
+        
+        String username = (String) request.getAttribute("username");
+        
+        try {
+            tokenService.invalidateAllTokens(username);
+            
+            logger.info("Усі токени користувача {} успішно інвалідовано", username);
+            return ResponseEntity.ok(TokenOperationResponse.success("Усі токени користувача успішно інвалідовано"));
+        } catch (Exception e) {
+            logger.error("Помилка при інвалідації всіх токенів: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(TokenOperationResponse.failure("Помилка при інвалідації всіх токенів: " + e.getMessage()));
+        }
+    }
+
+    // Ключ прив'язаний до адреси клієнта, а не до імені з тіла: чужий клієнт, що знає ім'я та ключ,
+    // не отримає збережену відповідь і не дізнається про неї з 422
+    private ResponseEntity<AuthResponse> idempotent(String endpoint, HttpServletRequest servletRequest,
+                                                    String idempotencyKey, Object request,
+                                                    Supplier<ResponseEntity<AuthResponse>> handler) {
+        try {
+            return idempotencyCache.execute(endpoint, servletRequest.getRemoteAddr(), idempotencyKey, request, handler);
+        } catch (IdempotencyCache.IdempotencyKeyReuseException e) {
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(new AuthResponse(false, e.getMessage(), null));
+        } catch (IdempotencyCache.InvalidIdempotencyKeyException e) {
+            logger.warn("Некоректний ключ ідемпотентності: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new AuthResponse(false, e.getMessage(), null));
+        }
+    }
+
+    private static Map<String, Object> buildInfo() {
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        endpoints.put("register", "POST /api/auth/register");
+        endpoints.put("login", "POST /api/auth/login");
+
+        Map<String, Object> info = new LinkedHashMap<>();
+        info.put("message", "Auth API");
+        info.put("status", "running");
+        info.put("endpoints", endpoints);
+        info.put("note", "Use POST method with JSON body for register and login endpoints");
+        return info;
+    }
+
+    private static Map<String, Object> buildRegisterInfo() {
+        Map<String, Object> example = new LinkedHashMap<>();
+        example.put("username", "testuser");
+        example.put("password", "Test123!@#");
+        example.put("email", "test@example.com");
+        example.put("birthday", "2000-01-01");
+        example.put("phoneNumber", "+380501234567");
+
+        Map<String, Object> info = new LinkedHashMap<>();
+        info.put("error", "Method not allowed");
+        info.put("message", "This endpoint only accepts POST requests");
+        info.put("method", "POST");
+        info.put("url", "/api/auth/register");
+        info.put("example", example);
+        return info;
+    }
+
+    private static Map<String, Object> buildLoginInfo() {
+        Map<String, Object> example = new LinkedHashMap<>();
+        example.put("username", "testuser");
+        example.put("password", "Test123!@#");
+
+        Map<String, Object> info = new LinkedHashMap<>();
+        info.put("error", "Method not allowed");
+        info.put("message", "This endpoint only accepts POST requests");
+        info.put("method", "POST");
+        info.put("url", "/api/auth/login");
+        info.put("example", example);
+        return info;
+    }
+}
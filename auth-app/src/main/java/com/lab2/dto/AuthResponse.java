@@ -0,0 +1,53 @@
+package com.lab2.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.io.IOException;
+
+@JsonSerialize(using = JsonWritableSerializer.class)
+public final class AuthResponse implements JsonWritable {
+
+    private static final SerializedString SUCCESS = new SerializedString("success");
+    private static final SerializedString MESSAGE = new SerializedString("message");
+    private static final SerializedString DATA = new SerializedString("data");
+
+    private final boolean success;
+    private final String message;
+    private final JsonWritable data;
+
+    public AuthResponse(boolean success, String message, JsonWritable data) {
+        this.success = success;
+        this.message = message;
+        this.data = data;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public JsonWritable getData() {
+        return data;
+    }
+
+    @Override
+    public void writeJson(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(SUCCESS);
+        generator.writeBoolean(success);
+        generator.writeFieldName(MESSAGE);
+        generator.writeString(message);
+        generator.writeFieldName(DATA);
+        if (data == null) {
+            generator.writeNull();
+        } else {
+            data.writeJson(generator);
+        }
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,9 @@
+package com.lab2.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+
+public interface JsonWritable {
+    void writeJson(JsonGenerator generator) throws IOException;
+}
@@ -0,0 +1,19 @@
+package com.lab2.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+public class JsonWritableSerializer extends StdSerializer<JsonWritable> {
+
+    public JsonWritableSerializer() {
+        super(JsonWritable.class);
+    }
+
+    @Override
+    public void serialize(JsonWritable value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        value.writeJson(generator);
+    }
+}
@@ -0,0 +1,30 @@
+package com.lab2.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.io.IOException;
+
+@JsonSerialize(using = JsonWritableSerializer.class)
+public record LoginData(String token, String refreshToken, String username, long expiresIn) implements JsonWritable {
+
+    private static final SerializedString TOKEN = new SerializedString("token");
+    private static final SerializedString REFRESH_TOKEN = new SerializedString("refreshToken");
+    private static final SerializedString USERNAME = new SerializedString("username");
+    private static final SerializedString EXPIRES_IN = new SerializedString("expiresIn");
+
+    @Override
+    public void writeJson(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(TOKEN);
+        generator.writeString(token);
+        generator.writeFieldName(REFRESH_TOKEN);
+        generator.writeString(refreshToken);
+        generator.writeFieldName(USERNAME);
+        generator.writeString(username);
+        generator.writeFieldName(EXPIRES_IN);
+        generator.writeNumber(expiresIn);
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,38 @@
+package com.lab2.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.io.IOException;
+
+@JsonSerialize(using = JsonWritableSerializer.class)
+public record RegistrationData(long userId, String username, String email, String registeredAt,
+                               String token, String refreshToken)
+        implements JsonWritable {
+
+    private static final SerializedString USER_ID = new SerializedString("userId");
+    private static final SerializedString USERNAME = new SerializedString("username");
+    private static final SerializedString EMAIL = new SerializedString("email");
+    private static final SerializedString REGISTERED_AT = new SerializedString("registeredAt");
+    private static final SerializedString TOKEN = new SerializedString("token");
+    private static final SerializedString REFRESH_TOKEN = new SerializedString("refreshToken");
+
+    @Override
+    public void writeJson(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(USER_ID);
+        generator.writeNumber(userId);
+        generator.writeFieldName(USERNAME);
+        generator.writeString(username);
+        generator.writeFieldName(EMAIL);
+        generator.writeString(email);
+        generator.writeFieldName(REGISTERED_AT);
+        generator.writeString(registeredAt);
+        generator.writeFieldName(TOKEN);
+        generator.writeString(token);
+        generator.writeFieldName(REFRESH_TOKEN);
+        generator.writeString(refreshToken);
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,59 @@
+package com.lab2.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.lab2.revocation.RevocationEvent;
+
+import java.io.IOException;
+import java.util.List;
+
+@JsonSerialize(using = JsonWritableSerializer.class)
+public record RevocationFeedResponse(String epoch, long sequence, boolean more, List<RevocationEvent> events)
+        implements JsonWritable {
+
+    private static final SerializedString EPOCH = new SerializedString("epoch");
+    private static final SerializedString SEQUENCE = new SerializedString("sequence");
+    private static final SerializedString MORE = new SerializedString("more");
+    private static final SerializedString EVENTS = new SerializedString("events");
+    private static final SerializedString SEQ = new SerializedString("seq");
+    private static final SerializedString TYPE = new SerializedString("type");
+    private static final SerializedString FINGERPRINT = new SerializedString("fingerprint");
+    private static final SerializedString EXPIRES_AT = new SerializedString("expiresAt");
+    private static final SerializedString USERNAME = new SerializedString("username");
+    private static final SerializedString GENERATION = new SerializedString("generation");
+
+    @Override
+    public void writeJson(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(EPOCH);
+        generator.writeString(epoch);
+        generator.writeFieldName(SEQUENCE);
+        generator.writeNumber(sequence);
+        generator.writeFieldName(MORE);
+        generator.writeBoolean(more);
+        generator.writeFieldName(EVENTS);
+        generator.writeStartArray();
+        for (RevocationEvent event : events) {
+            generator.writeStartObject();
+            generator.writeFieldName(SEQ);
+            generator.writeNumber(event.sequence());
+            generator.writeFieldName(TYPE);
+            generator.writeString(event.type().wireName());
+            if (event.type() == RevocationEvent.Type.TOKEN) {
+                generator.writeFieldName(FINGERPRINT);
+                generator.writeString(event.subject());
+                generator.writeFieldName(EXPIRES_AT);
+                generator.writeNumber(event.retainUntilEpochSecond());
+            } else {
+                generator.writeFieldName(USERNAME);
+                generator.writeString(event.subject());
+                generator.writeFieldName(GENERATION);
+                generator.writeNumber(event.generation());
+            }
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+}
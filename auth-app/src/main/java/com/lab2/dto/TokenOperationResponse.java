@@ -0,0 +1,44 @@
+package com.lab2.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.lab2.model.TokenPair;
+
+import java.io.IOException;
+
+@JsonSerialize(using = JsonWritableSerializer.class)
+public record TokenOperationResponse(boolean success, String message, TokenPair tokens) implements JsonWritable {
+
+    private static final SerializedString SUCCESS = new SerializedString("success");
+    private static final SerializedString MESSAGE = new SerializedString("message");
+    private static final SerializedString TOKEN = new SerializedString("token");
+    private static final SerializedString REFRESH_TOKEN = new SerializedString("refreshToken");
+    private static final SerializedString EXPIRES_IN = new SerializedString("expiresIn");
+
+    public static TokenOperationResponse success(String message) {
+        return new TokenOperationResponse(true, message, null);
+    }
+
+    public static TokenOperationResponse failure(String message) {
+        return new TokenOperationResponse(false, message, null);
+    }
+
+    @Override
+    public void writeJson(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(SUCCESS);
+        generator.writeBoolean(success);
+        generator.writeFieldName(MESSAGE);
+        generator.writeString(message);
+        if (tokens != null) {
+            generator.writeFieldName(TOKEN);
+            generator.writeString(tokens.accessToken());
+            generator.writeFieldName(REFRESH_TOKEN);
+            generator.writeString(tokens.refreshToken());
+            generator.writeFieldName(EXPIRES_IN);
+            generator.writeNumber(tokens.accessExpiresInSeconds());
+        }
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,20 @@
+package com.lab2.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public class TokenRefreshRequest {
+
+    @NotBlank(message = "Refresh token is required")
+    private String refreshToken;
+
+    public TokenRefreshRequest() {
+    }
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+}
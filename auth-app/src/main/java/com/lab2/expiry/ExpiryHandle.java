@@ -0,0 +1,5 @@
+package com.lab2.expiry;
+
+public interface ExpiryHandle {
+    boolean cancel();
+}
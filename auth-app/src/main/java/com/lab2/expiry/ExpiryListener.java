@@ -0,0 +1,8 @@
+package com.lab2.expiry;
+
+import java.util.List;
+
+@FunctionalInterface
+public interface ExpiryListener<T> {
+    void onExpired(List<T> items);
+}
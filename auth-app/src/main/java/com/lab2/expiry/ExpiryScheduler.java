@@ -0,0 +1,6 @@
+package com.lab2.expiry;
+
+public interface ExpiryScheduler {
+    <T> ExpiryHandle schedule(long expiresAtMillis, T item, ExpiryListener<T> listener);
+    long scheduledCount();
+}
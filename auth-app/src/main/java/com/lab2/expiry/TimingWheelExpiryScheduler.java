@@ -0,0 +1,210 @@
+package com.lab2.expiry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+@Component
+public class TimingWheelExpiryScheduler implements ExpiryScheduler, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(TimingWheelExpiryScheduler.class);
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 5;
+    private static final long MAX_SPAN_TICKS = 1L << (SLOT_BITS * LEVELS);
+
+    private final long tickMillis;
+    private final AtomicReference<Entry<?>> inbox = new AtomicReference<>();
+    private final AtomicLong scheduled = new AtomicLong();
+    private final Entry<?>[][] wheels = new Entry<?>[LEVELS][SLOTS];
+    private final Map<ExpiryListener<?>, List<Object>> expiredBatch = new IdentityHashMap<>();
+
+    private final long originMillis;
+    private final long originNanos;
+    private long currentTick;
+
+    private volatile Thread worker;
+    private volatile boolean running = true;
+
+    public TimingWheelExpiryScheduler() {
+        this(100);
+    }
+
+    @Autowired
+    public TimingWheelExpiryScheduler(@Value("${expiry.wheel.tick-millis:100}") long tickMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Тік колеса повинен бути додатнім");
+        }
+        this.tickMillis = tickMillis;
+        this.originMillis = System.currentTimeMillis();
+        this.originNanos = System.nanoTime();
+    }
+
+    @Override
+    public <T> ExpiryHandle schedule(long expiresAtMillis, T item, ExpiryListener<T> listener) {
+        long deadlineTick = Math.max(0, Math.floorDiv(expiresAtMillis - originMillis + tickMillis - 1, tickMillis));
+        Entry<T> entry = new Entry<>(deadlineTick, item, listener);
+        Entry<?> head;
+        do {
+            head = inbox.get();
+            entry.next = head;
+        } while (!inbox.compareAndSet(head, entry));
+        scheduled.incrementAndGet();
+        ensureStarted();
+        return entry;
+    }
+
+    @Override
+    public long scheduledCount() {
+        return scheduled.get();
+    }
+
+    @Override
+    public void destroy() {
+        running = false;
+        Thread thread = worker;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private void ensureStarted() {
+        if (worker == null) {
+            synchronized (this) {
+                if (worker == null && running) {
+                    Thread thread = new Thread(this::run, "expiry-wheel");
+                    thread.setDaemon(true);
+                    worker = thread;
+                    thread.start();
+                }
+            }
+        }
+    }
+
+    private void run() {
+        long tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        while (running) {
+            long nowTick = (System.nanoTime() - originNanos) / tickNanos;
+            drainInbox();
+            while (currentTick < nowTick) {
+                currentTick++;
+                advance(currentTick);
+            }
+            fireBatch();
+            LockSupport.parkNanos(tickNanos - (System.nanoTime() - originNanos) % tickNanos);
+        }
+        logger.info("Планувальник завершення строку дії зупинено");
+    }
+
+    private void drainInbox() {
+        Entry<?> entry = inbox.getAndSet(null);
+        while (entry != null) {
+            Entry<?> next = entry.next;
+            place(entry);
+            entry = next;
+        }
+    }
+
+    private void advance(long tick) {
+        int topLevel = 0;
+        while (topLevel + 1 < LEVELS && (tick & ((1L << (SLOT_BITS * (topLevel + 1))) - 1)) == 0) {
+            topLevel++;
+        }
+        for (int level = topLevel; level >= 1; level--) {
+            int slot = (int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK);
+            Entry<?> entry = wheels[level][slot];
+            wheels[level][slot] = null;
+            while (entry != null) {
+                Entry<?> next = entry.next;
+                place(entry);
+                entry = next;
+            }
+        }
+        int slot = (int) (tick & SLOT_MASK);
+        Entry<?> entry = wheels[0][slot];
+        wheels[0][slot] = null;
+        while (entry != null) {
+            Entry<?> next = entry.next;
+            collect(entry);
+            entry = next;
+        }
+    }
+
+    private void place(Entry<?> entry) {
+        if (entry.cancelled) {
+            scheduled.decrementAndGet();
+            return;
+        }
+        long delta = entry.deadlineTick - currentTick;
+        if (delta <= 0) {
+            collect(entry);
+            return;
+        }
+        long target = delta >= MAX_SPAN_TICKS ? currentTick + MAX_SPAN_TICKS - 1 : entry.deadlineTick;
+        int level = 0;
+        while (level + 1 < LEVELS && delta >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        int slot = (int) ((target >>> (SLOT_BITS * level)) & SLOT_MASK);
+        entry.next = wheels[level][slot];
+        wheels[level][slot] = entry;
+    }
+
+    private void collect(Entry<?> entry) {
+        scheduled.decrementAndGet();
+        if (!entry.cancelled) {
+            expiredBatch.computeIfAbsent(entry.listener, key -> new ArrayList<>()).add(entry.item);
+        }
+        entry.next = null;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void fireBatch() {
+        if (expiredBatch.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<ExpiryListener<?>, List<Object>> batch : expiredBatch.entrySet()) {
+            try {
+                ((ExpiryListener) batch.getKey()).onExpired(batch.getValue());
+            } catch (RuntimeException e) {
+                logger.error("Помилка при обробці завершення строку дії: {}", e.getMessage(), e);
+            }
+        }
+        expiredBatch.clear();
+    }
+
+    private static final class Entry<T> implements ExpiryHandle {
+        private final long deadlineTick;
+        private final T item;
+        private final ExpiryListener<T> listener;
+        private volatile boolean cancelled;
+        private Entry<?> next;
+
+        private Entry(long deadlineTick, T item, ExpiryListener<T> listener) {
+            this.deadlineTick = deadlineTick;
+            this.item = item;
+            this.listener = listener;
+        }
+
+        @Override
+        public boolean cancel() {
+            boolean wasActive = !cancelled;
+            cancelled = true;
+            return wasActive;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.lab2.filter;
+
+import com.lab2.annotation.ConcurrencyLimited;
+import com.lab2.annotation.RequiresToken;
+import com.lab2.limit.AimdLimiter;
+import com.lab2.limit.LimitGroup;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Component
+public class ConcurrencyLimitFilter extends OncePerRequestFilter implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrencyLimitFilter.class);
+
+    private static final String RETRY_AFTER_HEADER = "Retry-After";
+    private static final JsonErrorBody OVERLOADED = JsonErrorBody.of(HttpServletResponse.SC_SERVICE_UNAVAILABLE,
+            "Сервіс перевантажено", "Забагато одночасних запитів, повторіть спробу пізніше");
+
+    private final ObjectProvider<RequestMappingHandlerMapping> handlerMapping;
+    private final Map<LimitGroup, AimdLimiter> limiters = new EnumMap<>(LimitGroup.class);
+    private final String retryAfterSeconds;
+
+    private volatile RouteTable<LimitGroup> limitedRoutes;
+
+    @Autowired
+    public ConcurrencyLimitFilter(@Qualifier("requestMappingHandlerMapping")
+                                  ObjectProvider<RequestMappingHandlerMapping> handlerMapping,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${limits.credentials.initial:20}") int credentialsInitial,
+                                  @Value("${limits.credentials.min:4}") int credentialsMin,
+                                  @Value("${limits.credentials.max:120}") int credentialsMax,
+                                  @Value("${limits.credentials.latency-target-ms:250}") long credentialsLatencyTarget,
+                                  @Value("${limits.token-validation.initial:64}") int validationInitial,
+                                  @Value("${limits.token-validation.min:32}") int validationMin,
+                                  @Value("${limits.token-validation.max:160}") int validationMax,
+                                  @Value("${limits.token-validation.latency-target-ms:50}") long validationLatencyTarget,
+                                  @Value("${limits.retry-after-seconds:1}") int retryAfterSeconds) {
+        this.handlerMapping = handlerMapping;
+        this.retryAfterSeconds = Integer.toString(retryAfterSeconds);
+        limiters.put(LimitGroup.CREDENTIALS,
+                new AimdLimiter(credentialsInitial, credentialsMin, credentialsMax, credentialsLatencyTarget));
+        limiters.put(LimitGroup.TOKEN_VALIDATION,
+                new AimdLimiter(validationInitial, validationMin, validationMax, validationLatencyTarget));
+        limiters.forEach((group, limiter) -> registerMetrics(meterRegistry, group, limiter));
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        limitedRoutes();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        LimitGroup group = limitedRoutes().lookup(request);
+        if (group == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        AimdLimiter limiter = limiters.get(group);
+        if (!limiter.tryAcquire()) {
+            logger.debug("Запит {} відхилено обмежувачем {}", request.getRequestURI(), group);
+            response.setHeader(RETRY_AFTER_HEADER, retryAfterSeconds);
+            OVERLOADED.writeTo(response);
+            return;
+        }
+
+        long started = System.nanoTime();
+        boolean dropped = true;
+        try {
+            chain.doFilter(request, response);
+            dropped = response.getStatus() >= HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        } finally {
+            limiter.release(System.nanoTime() - started, dropped);
+        }
+    }
+
+    public AimdLimiter getLimiter(LimitGroup group) {
+        return limiters.get(group);
+    }
+
+    public void resetLimits() {
+        limiters.values().forEach(AimdLimiter::reset);
+    }
+
+    private RouteTable<LimitGroup> limitedRoutes() {
+        RouteTable<LimitGroup> routes = limitedRoutes;
+        if (routes == null) {
+            synchronized (this) {
+                routes = limitedRoutes;
+                if (routes == null) {
+                    routes = RouteTable.build(handlerMapping.getObject(), ConcurrencyLimitFilter::classify);
+                    limitedRoutes = routes;
+                }
+            }
+        }
+        return routes;
+    }
+
+    private static LimitGroup classify(HandlerMethod method) {
+        ConcurrencyLimited limited = method.getMethodAnnotation(ConcurrencyLimited.class);
+        if (limited != null) {
+            return limited.value();
+        }
+        return method.hasMethodAnnotation(RequiresToken.class) ? LimitGroup.TOKEN_VALIDATION : null;
+    }
+
+    private static void registerMetrics(MeterRegistry registry, LimitGroup group, AimdLimiter limiter) {
+        Gauge.builder("auth.concurrency.limit", limiter, AimdLimiter::getLimit)
+                .tag("group", group.getTag())
+                .description("Поточний адаптивний ліміт одночасних запитів")
+                .register(registry);
+        Gauge.builder("auth.concurrency.inflight", limiter, AimdLimiter::getInflight)
+                .tag("group", group.getTag())
+                .register(registry);
+        FunctionCounter.builder("auth.concurrency.shed", limiter, AimdLimiter::getShedCount)
+                .tag("group", group.getTag())
+                .description("Кількість запитів, відхилених з 503")
+                .register(registry);
+    }
+}
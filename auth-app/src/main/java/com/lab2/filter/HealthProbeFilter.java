@@ -0,0 +1,80 @@
+package com.lab2.filter;
+
+import com.lab2.warmup.WarmupState;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+@Component
+public class HealthProbeFilter implements Filter {
+
+    public static final String LIVENESS_PATH = "/livez";
+    public static final String READINESS_PATH = "/readyz";
+
+    private static final byte[] LIVE_BODY = "{\"status\":\"UP\"}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] WARMING_UP_BODY = "{\"status\":\"WARMING_UP\"}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] REFUSING_BODY = "{\"status\":\"OUT_OF_SERVICE\"}".getBytes(StandardCharsets.UTF_8);
+    private static final String CONTENT_TYPE = "application/json";
+
+    private final WarmupState warmupState;
+    private final ApplicationAvailability applicationAvailability;
+
+    @Autowired
+    public HealthProbeFilter(WarmupState warmupState, ApplicationAvailability applicationAvailability) {
+        this.warmupState = warmupState;
+        this.applicationAvailability = applicationAvailability;
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        if (isProbe(httpRequest, LIVENESS_PATH)) {
+            write(httpRequest, (HttpServletResponse) response, HttpServletResponse.SC_OK, LIVE_BODY);
+            return;
+        }
+        if (isProbe(httpRequest, READINESS_PATH)) {
+            HttpServletResponse httpResponse = (HttpServletResponse) response;
+            if (!warmupState.isComplete()) {
+                write(httpRequest, httpResponse, HttpServletResponse.SC_SERVICE_UNAVAILABLE, WARMING_UP_BODY);
+            } else if (applicationAvailability.getReadinessState() != ReadinessState.ACCEPTING_TRAFFIC) {
+                write(httpRequest, httpResponse, HttpServletResponse.SC_SERVICE_UNAVAILABLE, REFUSING_BODY);
+            } else {
+                write(httpRequest, httpResponse, HttpServletResponse.SC_OK, LIVE_BODY);
+            }
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+
+    private static void write(HttpServletRequest request, HttpServletResponse response, int status, byte[] body)
+            throws IOException {
+        response.setStatus(status);
+        response.setContentType(CONTENT_TYPE);
+        response.setHeader("Cache-Control", "no-store");
+        response.setContentLength(body.length);
+        if (!"HEAD".equals(request.getMethod())) {
+            response.getOutputStream().write(body);
+        }
+    }
+
+    private static boolean isProbe(HttpServletRequest request, String path) {
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        return uri.length() == contextPath.length() + path.length()
+                && uri.startsWith(contextPath)
+                && uri.endsWith(path)
+                && ("GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod()));
+    }
+}
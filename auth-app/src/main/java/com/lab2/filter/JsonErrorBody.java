@@ -0,0 +1,46 @@
+package com.lab2.filter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public final class JsonErrorBody {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String CONTENT_TYPE = "application/json;charset=UTF-8";
+
+    private final int status;
+    private final byte[] body;
+
+    private JsonErrorBody(int status, byte[] body) {
+        this.status = status;
+        this.body = body;
+    }
+
+    public static JsonErrorBody of(int status, String error, String message) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("error", error);
+        fields.put("message", message);
+        try {
+            return new JsonErrorBody(status, MAPPER.writeValueAsBytes(fields));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public void writeTo(HttpServletResponse response) throws IOException {
+        response.setStatus(status);
+        response.setContentType(CONTENT_TYPE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
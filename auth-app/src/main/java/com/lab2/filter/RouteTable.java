@@ -0,0 +1,127 @@
+package com.lab2.filter;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.condition.PathPatternsRequestCondition;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.util.ServletRequestPathUtils;
+import org.springframework.web.util.pattern.PathPattern;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public final class RouteTable<T> {
+
+    private static final String ANY_METHOD = "*";
+
+    private final Map<String, Map<String, T>> literalRoutes;
+    private final List<PatternRoute<T>> patternRoutes;
+    private final boolean literalOnly;
+
+    private RouteTable(Map<String, Map<String, T>> literalRoutes, List<PatternRoute<T>> patternRoutes, boolean literalOnly) {
+        this.literalRoutes = literalRoutes;
+        this.patternRoutes = patternRoutes;
+        this.literalOnly = literalOnly;
+    }
+
+    public static <T> RouteTable<T> build(RequestMappingHandlerMapping handlerMapping,
+                                          Function<HandlerMethod, T> classifier) {
+        Map<String, Map<String, T>> literalRoutes = new HashMap<>();
+        List<PatternRoute<T>> patternRoutes = new ArrayList<>();
+        boolean literalOnly = true;
+
+        for (Map.Entry<RequestMappingInfo, HandlerMethod> entry : handlerMapping.getHandlerMethods().entrySet()) {
+            T value = classifier.apply(entry.getValue());
+            PathPatternsRequestCondition paths = entry.getKey().getPathPatternsCondition();
+            if (value == null || paths == null) {
+                continue;
+            }
+
+            Set<String> methods = entry.getKey().getMethodsCondition().getMethods().stream()
+                    .map(Enum::name)
+                    .collect(Collectors.toSet());
+            if (methods.isEmpty()) {
+                methods = Set.of(ANY_METHOD);
+            }
+
+            Set<String> directPaths = paths.getDirectPaths();
+            for (PathPattern pattern : paths.getPatterns()) {
+                if (directPaths.contains(pattern.getPatternString())) {
+                    Map<String, T> byMethod = literalRoutes.computeIfAbsent(pattern.getPatternString(), key -> new HashMap<>());
+                    methods.forEach(method -> byMethod.put(method, value));
+                } else {
+                    literalOnly = false;
+                }
+                patternRoutes.add(new PatternRoute<>(pattern, Set.copyOf(methods), value));
+            }
+        }
+
+        Map<String, Map<String, T>> frozen = new HashMap<>();
+        literalRoutes.forEach((path, byMethod) -> frozen.put(path, Map.copyOf(byMethod)));
+        return new RouteTable<>(Map.copyOf(frozen), List.copyOf(patternRoutes), literalOnly);
+    }
+
+    public T lookup(HttpServletRequest request) {
+        String path = pathWithinApplication(request);
+        String method = request.getMethod();
+
+        // Шляхи з ';', '%' або '//' MVC нормалізує перед зіставленням, тому для них
+        // використовуються ті самі PathPattern, щоб класифікація не розійшлася з DispatcherServlet.
+        if (!requiresPatternMatching(path)) {
+            T value = lookupLiteral(path, method);
+            if (value != null || literalOnly) {
+                return value;
+            }
+        }
+        return lookupPattern(request, method);
+    }
+
+    private T lookupLiteral(String path, String method) {
+        Map<String, T> byMethod = literalRoutes.get(path);
+        if (byMethod == null) {
+            return null;
+        }
+        T value = byMethod.get(method);
+        if (value == null && "HEAD".equals(method)) {
+            value = byMethod.get("GET");
+        }
+        return value != null ? value : byMethod.get(ANY_METHOD);
+    }
+
+    private T lookupPattern(HttpServletRequest request, String method) {
+        PathContainer path = (ServletRequestPathUtils.hasParsedRequestPath(request)
+                ? ServletRequestPathUtils.getParsedRequestPath(request)
+                : ServletRequestPathUtils.parseAndCache(request)).pathWithinApplication();
+        for (PatternRoute<T> route : patternRoutes) {
+            if (route.matchesMethod(method) && route.pattern.matches(path)) {
+                return route.value;
+            }
+        }
+        return null;
+    }
+
+    private static boolean requiresPatternMatching(String path) {
+        return path.indexOf(';') >= 0 || path.indexOf('%') >= 0 || path.contains("//");
+    }
+
+    private static String pathWithinApplication(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        return contextPath.isEmpty() ? uri : uri.substring(contextPath.length());
+    }
+
+    private record PatternRoute<T>(PathPattern pattern, Set<String> methods, T value) {
+
+        private boolean matchesMethod(String method) {
+            return methods.contains(ANY_METHOD) || methods.contains(method)
+                    || ("HEAD".equals(method) && methods.contains("GET"));
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.lab2.filter;
+
+import com.lab2.annotation.RequiresToken;
+import com.lab2.model.TokenData;
+import com.lab2.model.TokenPrecheck;
+import com.lab2.service.TokenService;
+import com.lab2.timing.Phase;
+import com.lab2.timing.PhaseTimer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Component
+public class TokenAuthenticationFilter extends OncePerRequestFilter implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenAuthenticationFilter.class);
+
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String TOKEN_ATTRIBUTE = "tokenData";
+    private static final String USERNAME_ATTRIBUTE = "username";
+    private static final String EMAIL_ATTRIBUTE = "email";
+
+    private static final JsonErrorBody MISSING_TOKEN = JsonErrorBody.of(HttpServletResponse.SC_UNAUTHORIZED,
+            "Необхідна авторизація", "Токен відсутній або некоректний");
+    private static final JsonErrorBody INVALID_TOKEN = JsonErrorBody.of(HttpServletResponse.SC_UNAUTHORIZED,
+            "Невалідний токен", "Токен недійсний, прострочений або інвалідований");
+    private static final Map<TokenPrecheck, JsonErrorBody> PRECHECK_REJECTIONS = precheckRejections();
+    private static final JsonErrorBody INTERNAL_ERROR = JsonErrorBody.of(HttpServletResponse.SC_INTERNAL_SERVER_ERROR,
+            "Внутрішня помилка сервера", "Помилка обробки токену");
+
+    private final TokenService tokenService;
+    private final ObjectProvider<RequestMappingHandlerMapping> handlerMapping;
+
+    private volatile RouteTable<Boolean> protectedRoutes;
+
+    @Autowired
+    public TokenAuthenticationFilter(TokenService tokenService,
+                                     @Qualifier("requestMappingHandlerMapping")
+                                     ObjectProvider<RequestMappingHandlerMapping> handlerMapping) {
+        this.tokenService = tokenService;
+        this.handlerMapping = handlerMapping;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        protectedRoutes();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (protectedRoutes().lookup(request) == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        long started = PhaseTimer.start();
+        TokenData tokenData = authenticate(request, response);
+        PhaseTimer.stop(Phase.AUTH, started);
+        if (tokenData == null) {
+            return;
+        }
+
+        request.setAttribute(TOKEN_ATTRIBUTE, tokenData);
+        request.setAttribute(USERNAME_ATTRIBUTE, tokenData.getUsername());
+        request.setAttribute(EMAIL_ATTRIBUTE, tokenData.getEmail());
+
+        logger.debug("Токен успішно перевірено. Користувач: {}, Ендпоінт: {}",
+                tokenData.getUsername(), request.getRequestURI());
+        chain.doFilter(request, response);
+    }
+
+    private TokenData authenticate(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String authHeader = request.getHeader(AUTHORIZATION_HEADER);
+        if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
+            logger.debug("Відсутній або некоректний заголовок Authorization для ендпоінту: {}", request.getRequestURI());
+            MISSING_TOKEN.writeTo(response);
+            return null;
+        }
+
+        String token = authHeader.substring(BEARER_PREFIX.length());
+        TokenPrecheck precheck = tokenService.precheck(token);
+        if (precheck != TokenPrecheck.PASSED && precheck != TokenPrecheck.NON_CANONICAL) {
+            logger.debug("Токен відхилено попередньою перевіркою для ендпоінту {}: {}", request.getRequestURI(), precheck);
+            PRECHECK_REJECTIONS.get(precheck).writeTo(response);
+            return null;
+        }
+
+        try {
+            return tokenService.validateToken(token, precheck);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            logger.debug("Помилка перевірки токену для ендпоінту {}: {}", request.getRequestURI(), e.getMessage());
+            INVALID_TOKEN.writeTo(response);
+            return null;
+        } catch (RuntimeException e) {
+            logger.error("Невідома помилка при перевірці токену: {}", e.getMessage());
+            INTERNAL_ERROR.writeTo(response);
+            return null;
+        }
+    }
+
+    private RouteTable<Boolean> protectedRoutes() {
+        RouteTable<Boolean> routes = protectedRoutes;
+        if (routes == null) {
+            synchronized (this) {
+                routes = protectedRoutes;
+                if (routes == null) {
+                    routes = RouteTable.build(handlerMapping.getObject(),
+                            method -> method.hasMethodAnnotation(RequiresToken.class) ? Boolean.TRUE : null);
+                    protectedRoutes = routes;
+                    logger.info("Таблицю захищених маршрутів побудовано");
+                }
+            }
+        }
+        return routes;
+    }
+
+    private static Map<TokenPrecheck, JsonErrorBody> precheckRejections() {
+        Map<TokenPrecheck, JsonErrorBody> rejections = new EnumMap<>(TokenPrecheck.class);
+        for (TokenPrecheck precheck : TokenPrecheck.values()) {
+            rejections.put(precheck, precheck == TokenPrecheck.MISSING
+                    ? MISSING_TOKEN
+                    : JsonErrorBody.of(HttpServletResponse.SC_UNAUTHORIZED, "Невалідний токен", precheck.getMessage()));
+        }
+        return rejections;
+    }
+}
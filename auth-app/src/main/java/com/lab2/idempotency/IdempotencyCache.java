@@ -0,0 +1,158 @@
+package com.lab2.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lab2.concurrent.SingleFlight;
+import com.lab2.expiry.ExpiryListener;
+import com.lab2.expiry.ExpiryScheduler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+@Component
+public class IdempotencyCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyCache.class);
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final Map<String, CompletedResponse> completed = new ConcurrentHashMap<>();
+    // Місце в кеші резервується до вставки: перевірка size() і put окремо пропускали паралельні записи
+    private final AtomicInteger reserved = new AtomicInteger();
+    private final ExpiryListener<String> expiryListener = this::onExpired;
+    private final SingleFlight<String, CompletedResponse> inFlight;
+    private final ExpiryScheduler expiryScheduler;
+    private final ObjectMapper objectMapper;
+    private final ThreadLocal<Mac> fingerprintMac;
+    private final int capacity;
+    private final long ttlMillis;
+
+    @Autowired
+    public IdempotencyCache(ExpiryScheduler expiryScheduler, ObjectMapper objectMapper,
+                            @Value("${idempotency.capacity:10000}") int capacity,
+                            @Value("${idempotency.ttl-seconds:600}") long ttlSeconds) {
+        this.expiryScheduler = expiryScheduler;
+        this.objectMapper = objectMapper;
+        this.capacity = capacity;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.inFlight = new SingleFlight<>(capacity);
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        SecretKeySpec key = new SecretKeySpec(secret, "HmacSHA256");
+        this.fingerprintMac = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance("HmacSHA256");
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HmacSHA256 недоступний", e);
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> ResponseEntity<T> execute(String endpoint, String client, String key, Object body,
+                                         Supplier<ResponseEntity<T>> handler) {
+        if (key == null) {
+            return handler.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidIdempotencyKeyException();
+        }
+
+        String cacheKey = endpoint + '\n' + client + '\n' + key;
+        byte[] fingerprint = fingerprint(body);
+        boolean[] executed = new boolean[1];
+        CompletedResponse response = completed.get(cacheKey);
+        if (response == null) {
+            response = inFlight.execute(cacheKey, () -> {
+                CompletedResponse existing = completed.get(cacheKey);
+                if (existing != null) {
+                    return existing;
+                }
+                executed[0] = true;
+                return store(cacheKey, new CompletedResponse(fingerprint, handler.get()));
+            });
+        }
+
+        if (!MessageDigest.isEqual(response.fingerprint(), fingerprint)) {
+            logger.warn("Ключ ідемпотентності для {} повторно використано з іншим тілом запиту", endpoint);
+            throw new IdempotencyKeyReuseException();
+        }
+        if (executed[0]) {
+            return (ResponseEntity<T>) response.response();
+        }
+        logger.debug("Повернуто збережену відповідь для повторного запиту до {}", endpoint);
+        HttpHeaders headers = new HttpHeaders();
+        headers.addAll(response.response().getHeaders());
+        headers.set(REPLAYED_HEADER, "true");
+        return new ResponseEntity<>((T) response.response().getBody(), headers, response.response().getStatusCode());
+    }
+
+    public int size() {
+        return completed.size();
+    }
+
+    private CompletedResponse store(String cacheKey, CompletedResponse response) {
+        if (reserved.incrementAndGet() > capacity) {
+            reserved.decrementAndGet();
+            logger.debug("Кеш ідемпотентності заповнено, відповідь не збережено");
+            return response;
+        }
+        if (completed.putIfAbsent(cacheKey, response) != null) {
+            reserved.decrementAndGet();
+            return response;
+        }
+        expiryScheduler.schedule(System.currentTimeMillis() + ttlMillis, cacheKey, expiryListener);
+        return response;
+    }
+
+    private void onExpired(List<String> keys) {
+        for (String key : keys) {
+            if (completed.remove(key) != null) {
+                reserved.decrementAndGet();
+            }
+        }
+    }
+
+    private byte[] fingerprint(Object body) {
+        try {
+            return fingerprintMac.get().doFinal(objectMapper.writeValueAsBytes(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Не вдалося обчислити відбиток запиту: " + e.getMessage(), e);
+        }
+    }
+
+    private record CompletedResponse(byte[] fingerprint, ResponseEntity<?> response) {
+    }
+
+    public static final class InvalidIdempotencyKeyException extends IllegalArgumentException {
+        InvalidIdempotencyKeyException() {
+            super("Заголовок " + IDEMPOTENCY_KEY_HEADER + " має містити від 1 до " + MAX_KEY_LENGTH + " символів");
+        }
+    }
+
+    public static final class IdempotencyKeyReuseException extends IllegalStateException {
+        IdempotencyKeyReuseException() {
+            super("Ключ ідемпотентності вже використано з іншим тілом запиту");
+        }
+    }
+}
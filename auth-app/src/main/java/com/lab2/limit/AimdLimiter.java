@@ -0,0 +1,79 @@
+package com.lab2.limit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class AimdLimiter {
+
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyTargetNanos;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final AtomicLong limitBits;
+    private final AtomicLong shed = new AtomicLong();
+
+    public AimdLimiter(int initialLimit, int minLimit, int maxLimit, long latencyTargetMillis) {
+        if (minLimit < 1 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("Некоректні межі ліміту: " + minLimit + ".." + maxLimit);
+        }
+        this.initialLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTargetNanos = TimeUnit.MILLISECONDS.toNanos(latencyTargetMillis);
+        this.limitBits = new AtomicLong(Double.doubleToRawLongBits(this.initialLimit));
+    }
+
+    public boolean tryAcquire() {
+        int limit = getLimit();
+        while (true) {
+            int current = inflight.get();
+            if (current >= limit) {
+                shed.incrementAndGet();
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(long latencyNanos, boolean dropped) {
+        int inflightBefore = inflight.getAndDecrement();
+        while (true) {
+            long bits = limitBits.get();
+            double limit = Double.longBitsToDouble(bits);
+            double next;
+            if (dropped || latencyNanos > latencyTargetNanos) {
+                next = Math.max(minLimit, limit * BACKOFF_RATIO);
+            } else if (inflightBefore * 2 >= limit) {
+                next = Math.min(maxLimit, limit + 1.0 / limit);
+            } else {
+                return;
+            }
+            if (next == limit || limitBits.compareAndSet(bits, Double.doubleToRawLongBits(next))) {
+                return;
+            }
+        }
+    }
+
+    // Повертає початковий ліміт; запити в обробці лишаються врахованими
+    public void reset() {
+        limitBits.set(Double.doubleToRawLongBits(initialLimit));
+    }
+
+    public int getLimit() {
+        return (int) Double.longBitsToDouble(limitBits.get());
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    public long getShedCount() {
+        return shed.get();
+    }
+}
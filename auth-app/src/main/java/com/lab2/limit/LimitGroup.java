@@ -0,0 +1,16 @@
+package com.lab2.limit;
+
+public enum LimitGroup {
+    CREDENTIALS("credentials"),
+    TOKEN_VALIDATION("token-validation");
+
+    private final String tag;
+
+    LimitGroup(String tag) {
+        this.tag = tag;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+}
@@ -0,0 +1,4 @@
+package com.lab2.model;
+
+public record TokenPair(String accessToken, String refreshToken, long accessExpiresInSeconds) {
+}
@@ -0,0 +1,19 @@
+package com.lab2.revocation;
+
+public record RevocationEvent(long sequence, Type type, String subject, int generation, long retainUntilEpochSecond) {
+
+    public enum Type {
+        TOKEN("token"),
+        GENERATION("generation");
+
+        private final String wireName;
+
+        Type(String wireName) {
+            this.wireName = wireName;
+        }
+
+        public String wireName() {
+            return wireName;
+        }
+    }
+}
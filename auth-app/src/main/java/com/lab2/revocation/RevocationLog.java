@@ -0,0 +1,123 @@
+package com.lab2.revocation;
+
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+public class RevocationLog {
+
+    private static final int FINGERPRINT_BYTES = 16;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final String epoch = UUID.randomUUID().toString();
+
+    // Подія зберігається в паралельних масивах: відбиток токену — двома long, ім'я користувача
+    // лише для подій поколінь. Записи RevocationEvent створюються тільки для сторінки, що віддається.
+    private long[] fingerprintHigh = new long[16];
+    private long[] fingerprintLow = new long[16];
+    private String[] usernames = new String[16];
+    private int[] generations = new int[16];
+    private long[] retainUntil = new long[16];
+    private int head;
+    private int tail;
+    private long lastSequence;
+
+    public String epoch() {
+        return epoch;
+    }
+
+    public void tokenRevoked(String fingerprint, long expiresAtEpochSecond) {
+        byte[] bytes = DECODER.decode(fingerprint);
+        if (bytes.length != FINGERPRINT_BYTES) {
+            throw new IllegalArgumentException("Невірний відбиток токену");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        append(buffer.getLong(), buffer.getLong(), null, 0, expiresAtEpochSecond);
+    }
+
+    public void generationAdvanced(String username, int generation, long retainUntilEpochSecond) {
+        append(0, 0, username, generation, retainUntilEpochSecond);
+    }
+
+    public synchronized Page since(long sequence, int limit) {
+        trim(System.currentTimeMillis() / 1000);
+        if (head == tail) {
+            return new Page(List.of(), lastSequence, false);
+        }
+        // Послідовність подій неперервна, тож позицію обчислюємо без пошуку. Події, відрізані trim,
+        // стосувалися лише токенів, що вже прострочені, тому відстаючому клієнту їх можна не надсилати.
+        long first = lastSequence - (tail - head) + 1;
+        int from = head + (int) Math.max(0, Math.min(sequence + 1 - first, tail - head));
+        int to = Math.min(tail, from + limit);
+        List<RevocationEvent> page = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            page.add(event(i, first + (i - head)));
+        }
+        long cursor = to > from ? first + (to - 1 - head) : Math.max(sequence, first - 1);
+        return new Page(page, Math.min(cursor, lastSequence), to < tail);
+    }
+
+    public synchronized int size() {
+        return tail - head;
+    }
+
+    private synchronized void append(long high, long low, String username, int generation, long retainUntilEpochSecond) {
+        trim(System.currentTimeMillis() / 1000);
+        if (tail == retainUntil.length) {
+            grow();
+        }
+        fingerprintHigh[tail] = high;
+        fingerprintLow[tail] = low;
+        usernames[tail] = username;
+        generations[tail] = generation;
+        retainUntil[tail] = retainUntilEpochSecond;
+        tail++;
+        lastSequence++;
+    }
+
+    private RevocationEvent event(int index, long sequence) {
+        String username = usernames[index];
+        if (username != null) {
+            return new RevocationEvent(sequence, RevocationEvent.Type.GENERATION, username, generations[index],
+                    retainUntil[index]);
+        }
+        byte[] fingerprint = ByteBuffer.allocate(FINGERPRINT_BYTES)
+                .putLong(fingerprintHigh[index])
+                .putLong(fingerprintLow[index])
+                .array();
+        return new RevocationEvent(sequence, RevocationEvent.Type.TOKEN, ENCODER.encodeToString(fingerprint), 0,
+                retainUntil[index]);
+    }
+
+    private void trim(long nowEpochSeconds) {
+        while (head < tail && retainUntil[head] <= nowEpochSeconds) {
+            usernames[head++] = null;
+        }
+    }
+
+    private void grow() {
+        int live = tail - head;
+        int capacity = live * 2 > retainUntil.length ? retainUntil.length * 2 : retainUntil.length;
+        fingerprintHigh = shift(fingerprintHigh, capacity);
+        fingerprintLow = shift(fingerprintLow, capacity);
+        generations = Arrays.copyOf(Arrays.copyOfRange(generations, head, tail), capacity);
+        retainUntil = shift(retainUntil, capacity);
+        usernames = Arrays.copyOf(Arrays.copyOfRange(usernames, head, tail), capacity);
+        head = 0;
+        tail = live;
+    }
+
+    private long[] shift(long[] values, int capacity) {
+        return Arrays.copyOf(Arrays.copyOfRange(values, head, tail), capacity);
+    }
+
+    public record Page(List<RevocationEvent> events, long sequence, boolean more) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.lab2.service;
+
+import com.lab2.model.TokenData;
+import com.lab2.model.TokenPair;
+import com.lab2.model.TokenPrecheck;
+import java.util.Map;
+
+public interface TokenService {
+    String generateToken(String username, String email, Map<String, Object> metadata);
+    TokenData validateToken(String token);
+    TokenData validateToken(String token, TokenPrecheck precheck);
+    void invalidateToken(String token);
+    int invalidateAllTokens(String username);
+    String refreshToken(String token);
+    boolean isTokenValid(String token);
+    TokenPrecheck precheck(String token);
+    TokenPair issueTokens(String username, String email, Map<String, Object> metadata);
+    TokenPair rotateRefreshToken(String refreshToken);
+}
+
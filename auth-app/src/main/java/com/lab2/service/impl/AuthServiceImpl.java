@@ -1,10 +1,17 @@
 package com.lab2.service.impl;
 
+import com.lab2.audit.AuditEventType;
+import com.lab2.audit.AuditTrail;
 import com.lab2.dto.AuthResponse;
+import com.lab2.dto.LoginData;
 import com.lab2.dto.LoginRequest;
+import com.lab2.dto.RegistrationData;
 import com.lab2.dto.RegistrationRequest;
+import com.lab2.model.TokenPair;
 import com.lab2.service.AuthService;
 import com.lab2.service.TokenService;
+import com.lab2.timing.Phase;
+import com.lab2.timing.PhaseTimer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -26,52 +33,62 @@ public class AuthServiceImpl implements AuthService {
     private static final Pattern EMAIL_PATTERN = Pattern.compile("^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$");
     private static final Pattern PHONE_PATTERN = Pattern.compile("^\\+?[1-9]\\d{1,14}$");
     
+    private static final long MOCK_USER_ID = 12345L;
+    
     private final TokenService tokenService;
+    private final AuditTrail auditTrail;
 
     @Autowired
-    public AuthServiceImpl(TokenService tokenService) {
+    public AuthServiceImpl(TokenService tokenService, AuditTrail auditTrail) {
         this.tokenService = tokenService;
+        this.auditTrail = auditTrail;
     }
 
     @Override
     public AuthResponse register(RegistrationRequest request) {
         logger.info("Початок процесу реєстрації для користувача: {}", request.getUsername());
         
+        long started = PhaseTimer.start();
         String validationError = validateRegistration(request);
+        PhaseTimer.stop(Phase.VALIDATION, started);
         if (validationError != null) {
             logger.warn("Помилка валідації при реєстрації: {}", validationError);
+            auditTrail.record(AuditEventType.REGISTRATION, false, request.getUsername(), validationError);
             return new AuthResponse(false, validationError, null);
         }
         
         logger.info("Валідація реєстрації успішна для користувача: {}", request.getUsername());
         
+        String registeredAt = LocalDate.now().toString();
         Map<String, Object> metadata = new HashMap<>();
-        metadata.put("userId", 12345L);
-        metadata.put("registeredAt", LocalDate.now().toString());
+        metadata.put("userId", MOCK_USER_ID);
+        metadata.put("registeredAt", registeredAt);
         if (request.getPhoneNumber() != null && !request.getPhoneNumber().trim().isEmpty()) {
             metadata.put("phoneNumber", request.getPhoneNumber());
         }
         
-        String token = tokenService.generateToken(request.getUsername(), request.getEmail(), metadata);
+        started = PhaseTimer.start();
+        TokenPair tokens = tokenService.issueTokens(request.getUsername(), request.getEmail(), metadata);
+        PhaseTimer.stop(Phase.ISSUE, started);
         
-        Map<String, Object> mockData = new HashMap<>();
-        mockData.put("userId", 12345L);
-        mockData.put("username", request.getUsername());
-        mockData.put("email", request.getEmail());
-        mockData.put("registeredAt", LocalDate.now().toString());
-        mockData.put("token", token);
+        RegistrationData data = new RegistrationData(MOCK_USER_ID, request.getUsername(), request.getEmail(), registeredAt,
+                tokens.accessToken(), tokens.refreshToken());
         
         logger.info("Реєстрація успішно завершена для користувача: {}. Токен згенеровано", request.getUsername());
-        return new AuthResponse(true, "Користувача успішно зареєстровано", mockData);
+        auditTrail.record(AuditEventType.REGISTRATION, true, request.getUsername(), null);
+        return new AuthResponse(true, "Користувача успішно зареєстровано", data);
     }
 
     @Override
     public AuthResponse login(LoginRequest request) {
         logger.info("Початок процесу авторизації для користувача: {}", request.getUsername());
         
+        long started = PhaseTimer.start();
         String validationError = validateLogin(request);
+        PhaseTimer.stop(Phase.VALIDATION, started);
         if (validationError != null) {
             logger.warn("Помилка валідації при авторизації: {}", validationError);
+            auditTrail.record(AuditEventType.LOGIN, false, request.getUsername(), validationError);
             return new AuthResponse(false, validationError, null);
         }
         
@@ -80,15 +97,16 @@ public class AuthServiceImpl implements AuthService {
         Map<String, Object> metadata = new HashMap<>();
         metadata.put("lastLogin", LocalDate.now().toString());
         
-        String token = tokenService.generateToken(request.getUsername(), "user@example.com", metadata);
+        started = PhaseTimer.start();
+        TokenPair tokens = tokenService.issueTokens(request.getUsername(), "user@example.com", metadata);
+        PhaseTimer.stop(Phase.ISSUE, started);
         
-        Map<String, Object> mockData = new HashMap<>();
-        mockData.put("token", token);
-        mockData.put("username", request.getUsername());
-        mockData.put("expiresIn", 86400);
+        LoginData data = new LoginData(tokens.accessToken(), tokens.refreshToken(), request.getUsername(),
+                tokens.accessExpiresInSeconds());
         
         logger.info("Авторизація успішно завершена для користувача: {}. Токен згенеровано", request.getUsername());
-        return new AuthResponse(true, "Авторизація успішна", mockData);
+        auditTrail.record(AuditEventType.LOGIN, true, request.getUsername(), null);
+        return new AuthResponse(true, "Авторизація успішна", data);
     }
 
     private String validateRegistration(RegistrationRequest request) {
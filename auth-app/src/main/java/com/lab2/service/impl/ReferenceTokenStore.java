@@ -0,0 +1,257 @@
+package com.lab2.service.impl;
+
+import com.lab2.expiry.ExpiryListener;
+import com.lab2.expiry.ExpiryScheduler;
+import com.lab2.model.TokenPrecheck;
+import com.lab2.verifier.Base64Url;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.List;
+
+final class ReferenceTokenStore {
+
+    static final String PREFIX = "rt_";
+
+    private static final int HANDLE_BYTES = 20;
+    private static final int TOKEN_LENGTH = PREFIX.length() + 27;
+    private static final int SEGMENT_SLOTS = 16384;
+    private static final int MAX_READ_ATTEMPTS = 8;
+
+    private static final int SEQUENCE_OFFSET = 0;
+    private static final int EXPIRES_AT_OFFSET = 8;
+    private static final int NONCE_HIGH_OFFSET = 16;
+    private static final int NONCE_LOW_OFFSET = 24;
+    private static final int PAYLOAD_LENGTH_OFFSET = 32;
+    private static final int PAYLOAD_OFFSET = 40;
+
+    private static final VarHandle INT_VIEW = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.nativeOrder());
+
+    private final SecureRandom random = new SecureRandom();
+    private final int slotBytes;
+    private final int capacity;
+    private final ByteBuffer[] segments;
+    private final int[] freeSlots;
+    private final ExpiryScheduler expiryScheduler;
+    private final ExpiryListener<Long> expiryListener = this::onExpired;
+
+    private int freeCount;
+    private int highWater;
+    private int live;
+
+    ReferenceTokenStore(int capacity, int slotBytes, ExpiryScheduler expiryScheduler) {
+        if (capacity <= 0 || slotBytes < PAYLOAD_OFFSET + 64 || slotBytes % 8 != 0) {
+            throw new IllegalArgumentException("Невірні параметри сховища reference-токенів");
+        }
+        this.capacity = capacity;
+        this.slotBytes = slotBytes;
+        this.segments = new ByteBuffer[(capacity + SEGMENT_SLOTS - 1) / SEGMENT_SLOTS];
+        this.freeSlots = new int[capacity];
+        this.expiryScheduler = expiryScheduler;
+    }
+
+    static boolean isReference(String token) {
+        return token != null && token.startsWith(PREFIX);
+    }
+
+    static TokenPrecheck precheck(String token) {
+        if (token.length() != TOKEN_LENGTH) {
+            return TokenPrecheck.MALFORMED;
+        }
+        for (int i = PREFIX.length(); i < TOKEN_LENGTH; i++) {
+            if (!Base64Url.isAlphabet(token.charAt(i))) {
+                return TokenPrecheck.BAD_ENCODING;
+            }
+        }
+        // 20 байтів займають 160 із 162 бітів: молодші два біти останнього символу мають бути нульовими,
+        // інакше кілька різних рядків вказували б на той самий слот і nonce
+        if ((Base64Url.valueOf(token.charAt(TOKEN_LENGTH - 1)) & 0b11) != 0) {
+            return TokenPrecheck.BAD_ENCODING;
+        }
+        return TokenPrecheck.PASSED;
+    }
+
+    int maxPayloadBytes() {
+        return slotBytes - PAYLOAD_OFFSET;
+    }
+
+    String issue(byte[] payload, long expiresAtMillis) {
+        if (payload.length > maxPayloadBytes()) {
+            throw new IllegalArgumentException("Claims не вміщуються у слот reference-токену");
+        }
+        long nonceHigh = random.nextLong();
+        long nonceLow = random.nextLong();
+        int slot;
+        int sequence;
+        synchronized (this) {
+            slot = allocate();
+            ByteBuffer segment = segmentFor(slot);
+            int base = offset(slot);
+            beginWrite(segment, base);
+            segment.putLong(base + EXPIRES_AT_OFFSET, expiresAtMillis);
+            segment.putLong(base + NONCE_HIGH_OFFSET, nonceHigh);
+            segment.putLong(base + NONCE_LOW_OFFSET, nonceLow);
+            segment.putInt(base + PAYLOAD_LENGTH_OFFSET, payload.length);
+            segment.put(base + PAYLOAD_OFFSET, payload);
+            endWrite(segment, base);
+            sequence = segment.getInt(base + SEQUENCE_OFFSET);
+            live++;
+        }
+        // Кожен слот планується окремо; послідовність відрізняє цей запис від пізніших записів у той самий слот
+        expiryScheduler.schedule(expiresAtMillis, ((long) slot << 32) | (sequence & 0xFFFFFFFFL), expiryListener);
+        return encode(slot, nonceHigh, nonceLow);
+    }
+
+    byte[] lookup(String token, long nowMillis) {
+        int slot = (int) decode(token, 0, 4);
+        if (slot < 0 || slot >= capacity) {
+            return null;
+        }
+        ByteBuffer segment = segments[slot / SEGMENT_SLOTS];
+        if (segment == null) {
+            return null;
+        }
+        long nonceHigh = decode(token, 4, 12);
+        long nonceLow = decode(token, 12, 20);
+        int base = offset(slot);
+        for (int attempt = 0; attempt < MAX_READ_ATTEMPTS; attempt++) {
+            int sequence = (int) INT_VIEW.getAcquire(segment, base + SEQUENCE_OFFSET);
+            if ((sequence & 1) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+            long expiresAt = segment.getLong(base + EXPIRES_AT_OFFSET);
+            long mismatch = (segment.getLong(base + NONCE_HIGH_OFFSET) ^ nonceHigh)
+                    | (segment.getLong(base + NONCE_LOW_OFFSET) ^ nonceLow);
+            int length = segment.getInt(base + PAYLOAD_LENGTH_OFFSET);
+            byte[] payload = null;
+            if (mismatch == 0 && expiresAt > nowMillis && length > 0 && length <= maxPayloadBytes()) {
+                payload = new byte[length];
+                segment.get(base + PAYLOAD_OFFSET, payload);
+            }
+            VarHandle.loadLoadFence();
+            if ((int) INT_VIEW.getOpaque(segment, base + SEQUENCE_OFFSET) == sequence) {
+                return payload;
+            }
+        }
+        return null;
+    }
+
+    boolean remove(String token) {
+        int slot = (int) decode(token, 0, 4);
+        if (slot < 0 || slot >= capacity || segments[slot / SEGMENT_SLOTS] == null) {
+            return false;
+        }
+        long nonceHigh = decode(token, 4, 12);
+        long nonceLow = decode(token, 12, 20);
+        synchronized (this) {
+            ByteBuffer segment = segments[slot / SEGMENT_SLOTS];
+            int base = offset(slot);
+            if (segment.getLong(base + EXPIRES_AT_OFFSET) == 0
+                    || segment.getLong(base + NONCE_HIGH_OFFSET) != nonceHigh
+                    || segment.getLong(base + NONCE_LOW_OFFSET) != nonceLow) {
+                return false;
+            }
+            release(slot, segment, base);
+            return true;
+        }
+    }
+
+    synchronized int size() {
+        return live;
+    }
+
+    private synchronized void onExpired(List<Long> entries) {
+        for (long entry : entries) {
+            int slot = (int) (entry >>> 32);
+            ByteBuffer segment = segmentFor(slot);
+            int base = offset(slot);
+            // Слот уже відкликано або перевидано: запис у колесі застарів
+            if (segment.getInt(base + SEQUENCE_OFFSET) == (int) entry
+                    && segment.getLong(base + EXPIRES_AT_OFFSET) != 0) {
+                release(slot, segment, base);
+            }
+        }
+    }
+
+    private int allocate() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (highWater >= capacity) {
+            throw new IllegalStateException("Сховище reference-токенів переповнене");
+        }
+        int slot = highWater++;
+        int segmentIndex = slot / SEGMENT_SLOTS;
+        if (segments[segmentIndex] == null) {
+            int slots = Math.min(SEGMENT_SLOTS, capacity - segmentIndex * SEGMENT_SLOTS);
+            segments[segmentIndex] = ByteBuffer.allocateDirect(slots * slotBytes).order(ByteOrder.nativeOrder());
+        }
+        return slot;
+    }
+
+    private void release(int slot, ByteBuffer segment, int base) {
+        beginWrite(segment, base);
+        segment.putLong(base + EXPIRES_AT_OFFSET, 0);
+        segment.putLong(base + NONCE_HIGH_OFFSET, 0);
+        segment.putLong(base + NONCE_LOW_OFFSET, 0);
+        segment.putInt(base + PAYLOAD_LENGTH_OFFSET, 0);
+        endWrite(segment, base);
+        freeSlots[freeCount++] = slot;
+        live--;
+    }
+
+    private ByteBuffer segmentFor(int slot) {
+        return segments[slot / SEGMENT_SLOTS];
+    }
+
+    private int offset(int slot) {
+        return (slot % SEGMENT_SLOTS) * slotBytes;
+    }
+
+    private static void beginWrite(ByteBuffer segment, int base) {
+        int sequence = segment.getInt(base + SEQUENCE_OFFSET);
+        INT_VIEW.setOpaque(segment, base + SEQUENCE_OFFSET, sequence + 1);
+        VarHandle.storeStoreFence();
+    }
+
+    private static void endWrite(ByteBuffer segment, int base) {
+        int sequence = segment.getInt(base + SEQUENCE_OFFSET);
+        INT_VIEW.setRelease(segment, base + SEQUENCE_OFFSET, sequence + 1);
+    }
+
+    private static String encode(int slot, long nonceHigh, long nonceLow) {
+        byte[] raw = new byte[HANDLE_BYTES];
+        for (int i = 0; i < 4; i++) {
+            raw[i] = (byte) (slot >>> (24 - 8 * i));
+        }
+        for (int i = 0; i < 8; i++) {
+            raw[4 + i] = (byte) (nonceHigh >>> (56 - 8 * i));
+            raw[12 + i] = (byte) (nonceLow >>> (56 - 8 * i));
+        }
+        return PREFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    private static long decode(String token, int fromByte, int toByte) {
+        long value = 0;
+        int bits = 0;
+        int bitCount = 0;
+        int position = 0;
+        for (int i = PREFIX.length(); i < token.length() && position < toByte; i++) {
+            bits = (bits << 6) | Base64Url.valueOf(token.charAt(i));
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                if (position >= fromByte) {
+                    value = (value << 8) | ((bits >> bitCount) & 0xFF);
+                }
+                position++;
+            }
+        }
+        return value;
+    }
+}
@@ -0,0 +1,153 @@
+package com.lab2.service.impl;
+
+import com.lab2.expiry.ExpiryListener;
+import com.lab2.expiry.ExpiryScheduler;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+final class RefreshSessionStore {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final SecureRandom random = new SecureRandom();
+    private final Map<String, RefreshSession> sessions = new ConcurrentHashMap<>();
+    private final Map<String, Family> families = new ConcurrentHashMap<>();
+    private final ExpiryScheduler expiryScheduler;
+    private final UserGenerationTable generations;
+    private final ExpiryListener<RefreshSession> expiryListener = this::onExpired;
+
+    RefreshSessionStore(ExpiryScheduler expiryScheduler, UserGenerationTable generations) {
+        this.expiryScheduler = expiryScheduler;
+        this.generations = generations;
+    }
+
+    RefreshSession open(String username, String email, Map<String, Object> metadata, long ttlMillis, long now) {
+        Family family = new Family(randomId(16), generations.current(username));
+        families.put(family.id, family);
+        return issue(family, username, email, metadata, ttlMillis, now);
+    }
+
+    RefreshSession rotate(String refreshToken, long ttlMillis, long now) {
+        RefreshSession current = refreshToken == null ? null : sessions.get(refreshToken);
+        if (current == null || current.expiresAtMillis <= now) {
+            throw new IllegalStateException("Refresh-токен недійсний або прострочений");
+        }
+        Family family = current.family;
+        if (family.revoked) {
+            throw new IllegalStateException("Сесію було відкликано");
+        }
+        if (family.generation < generations.current(current.username)) {
+            revokeFamily(family);
+            throw new IllegalStateException("Сесію було відкликано");
+        }
+        if (!current.markUsed()) {
+            revokeFamily(family);
+            throw new RefreshTokenReuseException(current.username);
+        }
+        return issue(family, current.username, current.email, current.metadata, ttlMillis, now);
+    }
+
+    boolean revokeFamily(String familyId) {
+        Family family = familyId == null ? null : families.get(familyId);
+        if (family == null) {
+            return false;
+        }
+        revokeFamily(family);
+        return true;
+    }
+
+    int size() {
+        return sessions.size();
+    }
+
+    private void onExpired(List<RefreshSession> expired) {
+        for (RefreshSession session : expired) {
+            sessions.remove(session.token, session);
+            if (session.family.latest == session) {
+                families.remove(session.family.id, session.family);
+            }
+        }
+    }
+
+    private RefreshSession issue(Family family, String username, String email, Map<String, Object> metadata,
+                                 long ttlMillis, long now) {
+        RefreshSession session = new RefreshSession(randomId(32), family, username, email, metadata, now + ttlMillis);
+        family.latest = session;
+        sessions.put(session.token, session);
+        expiryScheduler.schedule(session.expiresAtMillis, session, expiryListener);
+        return session;
+    }
+
+    private void revokeFamily(Family family) {
+        family.revoked = true;
+        RefreshSession latest = family.latest;
+        if (latest != null) {
+            latest.markUsed();
+        }
+    }
+
+    private String randomId(int bytes) {
+        byte[] buffer = new byte[bytes];
+        random.nextBytes(buffer);
+        return ENCODER.encodeToString(buffer);
+    }
+
+    static final class RefreshSession {
+        private static final AtomicIntegerFieldUpdater<RefreshSession> USED =
+                AtomicIntegerFieldUpdater.newUpdater(RefreshSession.class, "used");
+
+        final String token;
+        final Family family;
+        final String username;
+        final String email;
+        final Map<String, Object> metadata;
+        final long expiresAtMillis;
+        private volatile int used;
+
+        private RefreshSession(String token, Family family, String username, String email,
+                               Map<String, Object> metadata, long expiresAtMillis) {
+            this.token = token;
+            this.family = family;
+            this.username = username;
+            this.email = email;
+            this.metadata = metadata;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        String familyId() {
+            return family.id;
+        }
+
+        boolean markUsed() {
+            return USED.compareAndSet(this, 0, 1);
+        }
+    }
+
+    static final class Family {
+        final String id;
+        final int generation;
+        volatile boolean revoked;
+        volatile RefreshSession latest;
+
+        private Family(String id, int generation) {
+            this.id = id;
+            this.generation = generation;
+        }
+    }
+
+    // Повідомлення потрапляє у відповідь клієнту, тому ім'я власника сесії лишається лише в полі
+    // для журналу та аудиту: той, хто повторює викрадений токен, не повинен дізнатися, чий він.
+    static final class RefreshTokenReuseException extends IllegalStateException {
+        final String username;
+
+        RefreshTokenReuseException(String username) {
+            super("Виявлено повторне використання refresh-токену, сесію відкликано");
+            this.username = username;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.lab2.service.impl;
+
+import com.lab2.verifier.Base64Url;
+
+import java.util.concurrent.locks.StampedLock;
+
+final class RevokedTokenTable {
+
+    private static final int SEGMENT_BITS = 4;
+    private static final int INITIAL_SEGMENT_CAPACITY = 16;
+    private static final int KEY_CHARACTERS = 11;
+
+    private final Segment[] segments = new Segment[1 << SEGMENT_BITS];
+    private volatile boolean empty = true;
+
+    RevokedTokenTable() {
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    // Підпис HS256 є рівномірно розподіленим 256-бітним значенням, тож перші 64 біти з нього
+    // уже є якісним ключем: рядок токену зберігати не потрібно, хешувати його теж.
+    static long key(String token) {
+        int from = token.lastIndexOf('.') + 1;
+        long key = 0;
+        for (int i = from; i < from + KEY_CHARACTERS && i < token.length(); i++) {
+            key = (key << 6) | Base64Url.valueOf(token.charAt(i));
+        }
+        return key == 0 ? 1 : key;
+    }
+
+    boolean contains(long key) {
+        return !empty && segmentFor(key).contains(key);
+    }
+
+    boolean add(long key, long expiresAtEpochSecond) {
+        empty = false;
+        boolean added = segmentFor(key).add(key, expiresAtEpochSecond);
+        // Повторний запис після вставки: паралельне видалення могло встигнути позначити таблицю порожньою
+        empty = false;
+        return added;
+    }
+
+    // Повертає exp запису, якому ще рано зникати, або 0, якщо запис прибрано чи його вже немає
+    long removeIfExpired(long key, long nowEpochSeconds) {
+        return segmentFor(key).removeIfExpired(key, nowEpochSeconds);
+    }
+
+    void markEmptyIfDrained() {
+        if (size() == 0) {
+            // Повертаємо швидкий шлях порожнього списку; перерахунок ловить вставку, що пройшла
+            // між підрахунком і цим записом (її власний запис empty = false іде вже після вставки)
+            empty = true;
+            if (size() > 0) {
+                empty = false;
+            }
+        }
+    }
+
+    int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    private Segment segmentFor(long key) {
+        return segments[(int) (key >>> (64 - SEGMENT_BITS))];
+    }
+
+    private static final class Segment {
+        private final StampedLock lock = new StampedLock();
+        private long[] keys = new long[INITIAL_SEGMENT_CAPACITY];
+        private long[] expirations = new long[INITIAL_SEGMENT_CAPACITY];
+        private int size;
+
+        boolean contains(long key) {
+            long stamp = lock.tryOptimisticRead();
+            boolean found = probe(keys, key);
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    found = probe(keys, key);
+                } finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+            return found;
+        }
+
+        boolean add(long key, long expiresAtEpochSecond) {
+            long stamp = lock.writeLock();
+            try {
+                if ((size + 1) * 4 > keys.length * 3) {
+                    rebuild(keys.length * 2);
+                }
+                int mask = keys.length - 1;
+                int index = (int) key & mask;
+                while (keys[index] != 0) {
+                    if (keys[index] == key) {
+                        return false;
+                    }
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                expirations[index] = expiresAtEpochSecond;
+                size++;
+                return true;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        long removeIfExpired(long key, long nowEpochSeconds) {
+            long stamp = lock.writeLock();
+            try {
+                int mask = keys.length - 1;
+                int index = (int) key & mask;
+                while (keys[index] != key) {
+                    if (keys[index] == 0) {
+                        return 0;
+                    }
+                    index = (index + 1) & mask;
+                }
+                if (expirations[index] > nowEpochSeconds) {
+                    return expirations[index];
+                }
+                // Зсув назад замість надгробків: ланцюжки пробування лишаються короткими без перебудови
+                int hole = index;
+                for (int next = (hole + 1) & mask; keys[next] != 0; next = (next + 1) & mask) {
+                    int home = (int) keys[next] & mask;
+                    if (((next - home) & mask) >= ((next - hole) & mask)) {
+                        keys[hole] = keys[next];
+                        expirations[hole] = expirations[next];
+                        hole = next;
+                    }
+                }
+                keys[hole] = 0;
+                expirations[hole] = 0;
+                size--;
+                if (keys.length > INITIAL_SEGMENT_CAPACITY && size * 8 < keys.length) {
+                    rebuild(keys.length / 2);
+                }
+                return 0;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        int size() {
+            long stamp = lock.readLock();
+            try {
+                return size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        private void rebuild(int capacity) {
+            long[] oldKeys = keys;
+            long[] oldExpirations = expirations;
+            long[] newKeys = new long[capacity];
+            long[] newExpirations = new long[capacity];
+            int mask = capacity - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0) {
+                    int index = (int) oldKeys[i] & mask;
+                    while (newKeys[index] != 0) {
+                        index = (index + 1) & mask;
+                    }
+                    newKeys[index] = oldKeys[i];
+                    newExpirations[index] = oldExpirations[i];
+                }
+            }
+            keys = newKeys;
+            expirations = newExpirations;
+        }
+
+        private static boolean probe(long[] keys, long key) {
+            int mask = keys.length - 1;
+            int index = (int) key & mask;
+            for (int i = 0; i < keys.length; i++) {
+                long candidate = keys[index];
+                if (candidate == key) {
+                    return true;
+                }
+                if (candidate == 0) {
+                    return false;
+                }
+                index = (index + 1) & mask;
+            }
+            return false;
+        }
+    }
+}
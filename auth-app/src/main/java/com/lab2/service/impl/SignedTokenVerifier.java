@@ -0,0 +1,73 @@
+package com.lab2.service.impl;
+
+import com.lab2.model.TokenPrecheck;
+import com.lab2.timing.Phase;
+import com.lab2.timing.PhaseTimer;
+import com.lab2.verifier.PayloadClaims;
+import com.lab2.verifier.SigningKey;
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.UnsupportedJwtException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.security.Key;
+
+final class SignedTokenVerifier {
+
+    private static final Logger logger = LoggerFactory.getLogger(SignedTokenVerifier.class);
+
+    private static final String ALGORITHM = "HS256";
+
+    private final SigningKey key;
+    private final JwtParser fallbackParser;
+
+    SignedTokenVerifier(SigningKey key) {
+        this.key = key;
+        this.fallbackParser = Jwts.parser().keyLocator(this::pinnedKey).build();
+    }
+
+    TokenPrecheck precheck(String token, long nowEpochSeconds) {
+        return key.precheck(token, nowEpochSeconds);
+    }
+
+    // Обидва шляхи закінчуються тією ж перевіркою HMAC і тими ж claims, що й у вбудованому TokenVerifier,
+    // тож сервіс і бібліотека приймають однакові токени; нестандартну форму додатково перевіряє JJWT.
+    PayloadClaims verify(String token, TokenPrecheck precheck) {
+        if (precheck == TokenPrecheck.NON_CANONICAL) {
+            verifyWithJjwt(token);
+        }
+        long started = PhaseTimer.start();
+        boolean signatureMatches = key.verifySignature(token);
+        PhaseTimer.stop(Phase.HMAC, started);
+        if (!signatureMatches) {
+            logger.debug("Підпис токену не збігається");
+            throw new IllegalStateException("Невірний токен: підпис не збігається");
+        }
+        return key.decodeClaims(token);
+    }
+
+    private void verifyWithJjwt(String token) {
+        long started = PhaseTimer.start();
+        try {
+            fallbackParser.parseSignedClaims(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            logger.debug("Токен нестандартної форми відхилено: {}", e.getMessage());
+            throw new IllegalStateException("Невірний токен: " + e.getMessage(), e);
+        } finally {
+            PhaseTimer.stop(Phase.HMAC, started);
+        }
+    }
+
+    // JJWT отримує ключ лише для HS256 з kid цього сервісу, навіть якщо попередня перевірка щось пропустить
+    private Key pinnedKey(Header header) {
+        if (header instanceof JwsHeader jwsHeader && ALGORITHM.equals(jwsHeader.getAlgorithm())
+                && key.keyId().equals(jwsHeader.getKeyId())) {
+            return key.key();
+        }
+        throw new UnsupportedJwtException(TokenPrecheck.UNSUPPORTED_HEADER.getMessage());
+    }
+}
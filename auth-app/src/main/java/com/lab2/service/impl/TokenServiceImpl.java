@@ -0,0 +1,435 @@
+package com.lab2.service.impl;
+
+import com.lab2.audit.AuditEventType;
+import com.lab2.audit.AuditTrail;
+import com.lab2.concurrent.SingleFlight;
+import com.lab2.expiry.ExpiryListener;
+import com.lab2.expiry.ExpiryScheduler;
+import com.lab2.expiry.TimingWheelExpiryScheduler;
+import com.lab2.model.ClaimsBackedTokenData;
+import com.lab2.model.TokenClaims;
+import com.lab2.model.TokenData;
+import com.lab2.model.TokenPair;
+import com.lab2.model.TokenPrecheck;
+import com.lab2.revocation.RevocationLog;
+import com.lab2.service.TokenService;
+import com.lab2.timing.Phase;
+import com.lab2.timing.PhaseTimer;
+import com.lab2.verifier.PayloadClaims;
+import com.lab2.verifier.PayloadMetadata;
+import com.lab2.verifier.SigningKey;
+import com.lab2.verifier.TokenFingerprint;
+import io.jsonwebtoken.Jwts;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class TokenServiceImpl implements TokenService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(TokenServiceImpl.class);
+    
+    private static final String SESSION_CLAIM = "sid";
+    private static final String GENERATION_CLAIM = "gen";
+    
+    @Value("${jwt.secret}")
+    private String secretKey;
+    
+    @Value("${jwt.expiration.hours}")
+    private int expirationHours;
+    
+    @Value("${jwt.access.expiration.minutes:15}")
+    private int accessExpirationMinutes = 15;
+    
+    @Value("${jwt.application.name}")
+    private String applicationName;
+    
+    @Value("${jwt.max-length:4096}")
+    private int maxTokenLength = 4096;
+    
+    @Value("${tokens.issuance-mode:jwt}")
+    private String issuanceMode = "jwt";
+    
+    @Value("${tokens.reference.capacity:1048576}")
+    private int referenceCapacity = 1 << 20;
+    
+    @Value("${tokens.reference.slot-bytes:512}")
+    private int referenceSlotBytes = 512;
+    
+    private final RevokedTokenTable revokedTokens = new RevokedTokenTable();
+    private final ExpiryListener<Long> revokedExpiryListener = this::expireRevokedTokens;
+    private final ExpiryScheduler expiryScheduler;
+    private final AuditTrail auditTrail;
+    private final RevocationLog revocationLog;
+    private final RefreshSessionStore refreshSessions;
+    private final UserGenerationTable generations = new UserGenerationTable();
+    private final SingleFlight<String, PayloadClaims> validations;
+    
+    public TokenServiceImpl() {
+        this(new TimingWheelExpiryScheduler(), AuditTrail.NONE, new RevocationLog(), 1024);
+    }
+
+    @Autowired
+    public TokenServiceImpl(ExpiryScheduler expiryScheduler, AuditTrail auditTrail, RevocationLog revocationLog,
+                            @Value("${jwt.validation.max-in-flight:1024}") int maxInFlightValidations) {
+        this.expiryScheduler = expiryScheduler;
+        this.auditTrail = auditTrail;
+        this.revocationLog = revocationLog;
+        this.refreshSessions = new RefreshSessionStore(expiryScheduler, generations);
+        this.validations = new SingleFlight<>(maxInFlightValidations);
+    }
+    
+    private static final int ISOLATED_REFERENCE_CAPACITY = 4096;
+
+    // Копія з тими самими налаштуваннями, але з власними сесіями, deny-list, поколіннями й стрічкою
+    // відкликань: прогрів ганяє той самий код, не лишаючи слідів у робочому стані сервісу.
+    public TokenServiceImpl isolatedCopy(ExpiryScheduler scheduler) {
+        TokenServiceImpl copy = new TokenServiceImpl(scheduler, AuditTrail.NONE, new RevocationLog(), 1024);
+        copy.secretKey = secretKey;
+        copy.expirationHours = expirationHours;
+        copy.accessExpirationMinutes = accessExpirationMinutes;
+        copy.applicationName = applicationName;
+        copy.maxTokenLength = maxTokenLength;
+        copy.issuanceMode = issuanceMode;
+        copy.referenceCapacity = Math.min(referenceCapacity, ISOLATED_REFERENCE_CAPACITY);
+        copy.referenceSlotBytes = referenceSlotBytes;
+        return copy;
+    }
+
+    private volatile SigningKey signingKey;
+    private volatile SignedTokenVerifier tokenVerifier;
+    private volatile ReferenceTokenStore referenceTokens;
+    
+    private SigningKey signingKey() {
+        SigningKey key = signingKey;
+        if (key == null) {
+            synchronized (this) {
+                key = signingKey;
+                if (key == null) {
+                    key = new SigningKey(secretKey, maxTokenLength);
+                    signingKey = key;
+                }
+            }
+        }
+        return key;
+    }
+
+    private SignedTokenVerifier tokenVerifier() {
+        SignedTokenVerifier verifier = tokenVerifier;
+        if (verifier == null) {
+            synchronized (this) {
+                verifier = tokenVerifier;
+                if (verifier == null) {
+                    verifier = new SignedTokenVerifier(signingKey());
+                    tokenVerifier = verifier;
+                }
+            }
+        }
+        return verifier;
+    }
+
+    private ReferenceTokenStore referenceTokens() {
+        ReferenceTokenStore store = referenceTokens;
+        if (store == null) {
+            synchronized (this) {
+                store = referenceTokens;
+                if (store == null) {
+                    store = new ReferenceTokenStore(referenceCapacity, referenceSlotBytes, expiryScheduler);
+                    referenceTokens = store;
+                }
+            }
+        }
+        return store;
+    }
+
+    @Override
+    public TokenPrecheck precheck(String token) {
+        // NON_CANONICAL не є відмовою: таку форму остаточно перевіряє JJWT у validateToken
+        return fullPrecheck(token);
+    }
+
+    private TokenPrecheck fullPrecheck(String token) {
+        long started = PhaseTimer.start();
+        try {
+            if (ReferenceTokenStore.isReference(token)) {
+                return ReferenceTokenStore.precheck(token);
+            }
+            return tokenVerifier().precheck(token, System.currentTimeMillis() / 1000);
+        } finally {
+            PhaseTimer.stop(Phase.PRECHECK, started);
+        }
+    }
+
+    @Override
+    public TokenPair issueTokens(String username, String email, Map<String, Object> metadata) {
+        Map<String, Object> sessionMetadata = metadata == null
+                ? Collections.emptyMap()
+                : new PayloadMetadata(PayloadClaims.encode(metadata));
+        RefreshSessionStore.RefreshSession session = refreshSessions.open(username, email, sessionMetadata,
+                refreshTtlMillis(), System.currentTimeMillis());
+        return tokenPair(session);
+    }
+
+    @Override
+    public TokenPair rotateRefreshToken(String refreshToken) {
+        logger.info("Ротація refresh-токену");
+        try {
+            RefreshSessionStore.RefreshSession session = refreshSessions.rotate(refreshToken, refreshTtlMillis(),
+                    System.currentTimeMillis());
+            logger.info("Refresh-токен успішно ротовано для користувача: {}", session.username);
+            auditTrail.record(AuditEventType.TOKEN_REFRESH, true, session.username, null);
+            return tokenPair(session);
+        } catch (RefreshSessionStore.RefreshTokenReuseException e) {
+            logger.warn("Виявлено повторне використання refresh-токену, сесію користувача {} відкликано", e.username);
+            auditTrail.record(AuditEventType.TOKEN_REFRESH, false, e.username, e.getMessage());
+            throw e;
+        } catch (RuntimeException e) {
+            auditTrail.record(AuditEventType.TOKEN_REFRESH, false, null, e.getMessage());
+            throw e;
+        }
+    }
+
+    private TokenPair tokenPair(RefreshSessionStore.RefreshSession session) {
+        Map<String, Object> claims = new HashMap<>(session.metadata);
+        claims.put(SESSION_CLAIM, session.familyId());
+        String accessToken = generateToken(session.username, session.email, claims);
+        return new TokenPair(accessToken, session.token, accessExpirationMinutes * 60L);
+    }
+
+    private long refreshTtlMillis() {
+        return expirationHours * 3_600_000L;
+    }
+
+    @Override
+    public String generateToken(String username, String email, Map<String, Object> metadata) {
+        logger.info("Генерація токену для користувача: {}", username);
+        
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plusMinutes(accessExpirationMinutes);
+        
+        Date issuedAt = Date.from(now.atZone(ZoneId.systemDefault()).toInstant());
+        Date expiration = Date.from(expiresAt.atZone(ZoneId.systemDefault()).toInstant());
+        
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("username", username);
+        claims.put("email", email);
+        claims.put("applicationName", applicationName);
+        claims.put("createdAt", now.toString());
+        claims.put("expiresAt", expiresAt.toString());
+        if (metadata != null) {
+            claims.putAll(metadata);
+        }
+        claims.put(GENERATION_CLAIM, generations.current(username));
+        
+        if ("reference".equalsIgnoreCase(issuanceMode)) {
+            String reference = issueReference(username, claims, issuedAt, expiration);
+            if (reference != null) {
+                logger.info("Reference-токен успішно згенеровано для користувача: {}. Термін дії: {} хвилин",
+                        username, accessExpirationMinutes);
+                return reference;
+            }
+        }
+        
+        SigningKey key = signingKey();
+        String token = Jwts.builder()
+                .header().keyId(key.keyId()).and()
+                .claims(claims)
+                .subject(username)
+                .issuedAt(issuedAt)
+                .expiration(expiration)
+                .signWith(key.key(), Jwts.SIG.HS256)
+                .compact();
+        
+        logger.info("Токен успішно згенеровано для користувача: {}. Термін дії: {} хвилин", username, accessExpirationMinutes);
+        return token;
+    }
+
+    private String issueReference(String username, Map<String, Object> claims, Date issuedAt, Date expiration) {
+        Map<String, Object> payloadClaims = new HashMap<>(claims);
+        payloadClaims.put("sub", username);
+        payloadClaims.put("iat", issuedAt.getTime() / 1000);
+        payloadClaims.put("exp", expiration.getTime() / 1000);
+        byte[] payload = PayloadClaims.encode(payloadClaims);
+        ReferenceTokenStore store = referenceTokens();
+        if (payload.length > store.maxPayloadBytes()) {
+            logger.warn("Claims користувача {} не вміщуються у слот reference-токену ({} байт), видається JWT",
+                    username, payload.length);
+            return null;
+        }
+        return store.issue(payload, expiration.getTime());
+    }
+
+    @Override
+    public TokenData validateToken(String token) {
+        return validateToken(token, fullPrecheck(token));
+    }
+
+    // precheck має бути результатом precheck(token) для цього ж токену: фільтр автентифікації
+    // уже виконав попередню перевірку і не повинен платити за неї вдруге
+    @Override
+    public TokenData validateToken(String token, TokenPrecheck precheck) {
+        logger.debug("Перевірка валідності токену");
+        
+        if (precheck == TokenPrecheck.MISSING) {
+            logger.debug("Спроба перевірки порожнього токену");
+            throw new IllegalArgumentException(precheck.getMessage());
+        }
+        if (precheck != TokenPrecheck.PASSED && precheck != TokenPrecheck.NON_CANONICAL) {
+            logger.debug("Токен відхилено попередньою перевіркою: {}", precheck);
+            throw new IllegalStateException("Невірний токен: " + precheck.getMessage());
+        }
+        
+        if (ReferenceTokenStore.isReference(token)) {
+            return checkClaims(referenceClaims(token));
+        }
+        
+        // Поодинока інвалідація (POST /token/invalidate) має діяти одразу для конкретного access-токену,
+        // а покоління й сесії відкликають лише все разом. Тому deny-list лишається на гарячому шляху,
+        // але поки він порожній (звичайний стан: записи живуть не довше за access-токен), перевірка
+        // зводиться до читання одного volatile-поля без пошуку.
+        if (revokedTokens.contains(RevokedTokenTable.key(token))) {
+            logger.warn("Спроба використання інвалідованого токену");
+            throw new IllegalStateException("Токен було інвалідовано");
+        }
+        
+        // Об'єднується лише перевірка підпису; exp і покоління кожен викликач перевіряє сам після неї,
+        // інакше той, хто приєднався до перевірки, розпочатої до invalidate-all, отримав би застарілий успіх
+        return checkClaims(validations.execute(token, () -> tokenVerifier().verify(token, precheck)));
+    }
+
+    private TokenData checkClaims(PayloadClaims claims) {
+        long started = PhaseTimer.start();
+        String username = claims.getUsername();
+        boolean expired = claims.getExpiresAtEpochSecond() <= System.currentTimeMillis() / 1000;
+        boolean revoked = !expired && claims.getGeneration() < generations.current(username);
+        PhaseTimer.stop(Phase.CLAIMS, started);
+        if (expired) {
+            logger.warn("Токен прострочено для користувача: {}", username);
+            throw new IllegalStateException("Токен прострочено");
+        }
+        if (revoked) {
+            logger.warn("Токен відкликано разом з усіма токенами користувача: {}", username);
+            throw new IllegalStateException("Токен було відкликано");
+        }
+        
+        logger.info("Токен успішно перевірено для користувача: {}", username);
+        return new ClaimsBackedTokenData(claims);
+    }
+
+    private PayloadClaims referenceClaims(String token) {
+        byte[] payload = referenceTokens == null ? null : referenceTokens.lookup(token, System.currentTimeMillis());
+        if (payload == null) {
+            logger.debug("Reference-токен не знайдено або прострочено");
+            throw new IllegalStateException("Невірний токен: reference-токен не знайдено або прострочено");
+        }
+        return new PayloadClaims(payload);
+    }
+
+    @Override
+    public void invalidateToken(String token) {
+        logger.info("Інвалідація токену");
+        
+        if (token == null || token.trim().isEmpty()) {
+            logger.warn("Спроба інвалідації порожнього токену");
+            throw new IllegalArgumentException("Токен не може бути порожнім");
+        }
+        
+        TokenPrecheck precheck = fullPrecheck(token);
+        if (precheck != TokenPrecheck.PASSED && precheck != TokenPrecheck.NON_CANONICAL) {
+            logger.debug("Токен для інвалідації відхилено попередньою перевіркою: {}", precheck);
+            auditTrail.record(AuditEventType.TOKEN_INVALIDATION, false, null, precheck.getMessage());
+            throw new IllegalStateException("Невірний токен для інвалідації: " + precheck.getMessage());
+        }
+        
+        TokenClaims claims = ReferenceTokenStore.isReference(token) ? referenceClaims(token)
+                : tokenVerifier().verify(token, precheck);
+        revoke(token, claims);
+        String username = claims.getUsername();
+        if (refreshSessions.revokeFamily(claims.getString(SESSION_CLAIM))) {
+            logger.info("Сесію оновлення відкликано для користувача: {}", username);
+        }
+        logger.info("Токен успішно інвалідовано для користувача: {}", username);
+        auditTrail.record(AuditEventType.TOKEN_INVALIDATION, true, username, null);
+    }
+
+    @Override
+    public int invalidateAllTokens(String username) {
+        if (username == null || username.isBlank()) {
+            throw new IllegalArgumentException("Ім'я користувача не може бути порожнім");
+        }
+        int generation = generations.increment(username);
+        revocationLog.generationAdvanced(username, generation,
+                System.currentTimeMillis() / 1000 + accessExpirationMinutes * 60L);
+        logger.info("Усі токени користувача {} інвалідовано. Нове покоління: {}", username, generation);
+        auditTrail.record(AuditEventType.ALL_TOKENS_INVALIDATION, true, username, null);
+        return generation;
+    }
+
+    @Override
+    public String refreshToken(String token) {
+        logger.info("Оновлення токену");
+        
+        TokenData tokenData = validateToken(token);
+        TokenClaims claims = ((ClaimsBackedTokenData) tokenData).getClaims();
+        if (!revoke(token, claims)) {
+            logger.warn("Спроба повторного оновлення токену для користувача: {}", claims.getUsername());
+            throw new IllegalStateException("Токен вже було оновлено або інвалідовано");
+        }
+        refreshSessions.revokeFamily(claims.getString(SESSION_CLAIM));
+        
+        // sid у метадані не потрапляє: сесію щойно відкликано, і новий JWT до неї вже не належить
+        Map<String, Object> metadata = tokenData.getMetadata() != null ? tokenData.getMetadata() : new HashMap<>();
+        
+        String newToken = generateToken(tokenData.getUsername(), tokenData.getEmail(), metadata);
+        
+        logger.info("Токен успішно оновлено для користувача: {}", tokenData.getUsername());
+        auditTrail.record(AuditEventType.TOKEN_REFRESH, true, tokenData.getUsername(), null);
+        return newToken;
+    }
+
+    private boolean revoke(String token, TokenClaims claims) {
+        if (ReferenceTokenStore.isReference(token)) {
+            return referenceTokens.remove(token);
+        }
+        long key = RevokedTokenTable.key(token);
+        if (!revokedTokens.add(key, claims.getExpiresAtEpochSecond())) {
+            return false;
+        }
+        expiryScheduler.schedule(claims.getExpiresAtEpochSecond() * 1000, key, revokedExpiryListener);
+        revocationLog.tokenRevoked(TokenFingerprint.of(token), claims.getExpiresAtEpochSecond());
+        return true;
+    }
+
+    private void expireRevokedTokens(List<Long> keys) {
+        long now = System.currentTimeMillis() / 1000;
+        for (long key : keys) {
+            long expiresAt = revokedTokens.removeIfExpired(key, now);
+            if (expiresAt != 0) {
+                // Колесо спрацювало раніше за exp запису: переплановуємо, щоб ключ не лишився назавжди
+                expiryScheduler.schedule(expiresAt * 1000, key, revokedExpiryListener);
+            }
+        }
+        revokedTokens.markEmptyIfDrained();
+    }
+
+    @Override
+    public boolean isTokenValid(String token) {
+        try {
+            validateToken(token);
+            return true;
+        } catch (Exception e) {
+            logger.debug("Токен невалідний: {}", e.getMessage());
+            return false;
+        }
+    }
+}
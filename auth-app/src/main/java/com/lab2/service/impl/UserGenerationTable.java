@@ -0,0 +1,148 @@
+package com.lab2.service.impl;
+
+import java.util.concurrent.locks.StampedLock;
+
+final class UserGenerationTable {
+
+    private static final int SEGMENT_BITS = 4;
+    private static final int INITIAL_SEGMENT_CAPACITY = 16;
+
+    private final Segment[] segments = new Segment[1 << SEGMENT_BITS];
+    private volatile boolean empty = true;
+
+    UserGenerationTable() {
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    int current(String username) {
+        if (empty || username == null) {
+            return 0;
+        }
+        long key = key(username);
+        return segmentFor(key).get(key);
+    }
+
+    int increment(String username) {
+        long key = key(username);
+        empty = false;
+        return segmentFor(key).increment(key);
+    }
+
+    int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    static long key(String username) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < username.length(); i++) {
+            hash ^= username.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash == 0 ? 1 : hash;
+    }
+
+    private Segment segmentFor(long key) {
+        return segments[(int) (key >>> (64 - SEGMENT_BITS))];
+    }
+
+    private static final class Segment {
+        private final StampedLock lock = new StampedLock();
+        private long[] keys = new long[INITIAL_SEGMENT_CAPACITY];
+        private int[] values = new int[INITIAL_SEGMENT_CAPACITY];
+        private int size;
+
+        int get(long key) {
+            long stamp = lock.tryOptimisticRead();
+            int value = probe(keys, values, key);
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    value = probe(keys, values, key);
+                } finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+            return value;
+        }
+
+        int increment(long key) {
+            long stamp = lock.writeLock();
+            try {
+                if ((size + 1) * 4 > keys.length * 3) {
+                    resize();
+                }
+                int mask = keys.length - 1;
+                int index = (int) key & mask;
+                while (keys[index] != 0 && keys[index] != key) {
+                    index = (index + 1) & mask;
+                }
+                if (keys[index] == 0) {
+                    keys[index] = key;
+                    size++;
+                }
+                return ++values[index];
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        int size() {
+            long stamp = lock.readLock();
+            try {
+                return size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            long[] newKeys = new long[oldKeys.length * 2];
+            int[] newValues = new int[oldKeys.length * 2];
+            int mask = newKeys.length - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0) {
+                    int index = (int) oldKeys[i] & mask;
+                    while (newKeys[index] != 0) {
+                        index = (index + 1) & mask;
+                    }
+                    newKeys[index] = oldKeys[i];
+                    newValues[index] = oldValues[i];
+                }
+            }
+            keys = newKeys;
+            values = newValues;
+        }
+
+        private static int probe(long[] keys, int[] values, long key) {
+            if (keys.length != values.length) {
+                return 0;
+            }
+            int mask = keys.length - 1;
+            int index = (int) key & mask;
+            for (int i = 0; i < keys.length; i++) {
+                long candidate = keys[index];
+                if (candidate == key) {
+                    return values[index];
+                }
+                if (candidate == 0) {
+                    return 0;
+                }
+                index = (index + 1) & mask;
+            }
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.lab2.sidecar;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.function.BiConsumer;
+
+final class SidecarConnection {
+
+    private final SocketChannel channel;
+    private final SelectionKey key;
+    private final BiConsumer<String, ByteBuffer> handler;
+    private final int maxFrameBytes;
+    private final int maxResponseBytes;
+    private final ByteBuffer in;
+    private final ByteBuffer out;
+
+    SidecarConnection(SocketChannel channel, SelectionKey key, BiConsumer<String, ByteBuffer> handler,
+                      int maxFrameBytes, int maxResponseBytes) {
+        this.channel = channel;
+        this.key = key;
+        this.handler = handler;
+        this.maxFrameBytes = maxFrameBytes;
+        this.maxResponseBytes = maxResponseBytes;
+        this.in = ByteBuffer.allocate(SidecarProtocol.HEADER_BYTES + maxFrameBytes);
+        this.out = ByteBuffer.allocateDirect(Math.max(16 * 1024, 2 * maxResponseBytes));
+    }
+
+    void onReadable() throws IOException {
+        if (channel.read(in) < 0) {
+            throw new IOException("Клієнт закрив з'єднання");
+        }
+        process();
+    }
+
+    void onWritable() throws IOException {
+        flush();
+        if (out.position() == 0) {
+            process();
+        }
+    }
+
+    void close() {
+        key.cancel();
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // З'єднання і так закривається
+        }
+    }
+
+    // Обробляє всі повні кадри з буфера. Якщо для відповіді бракує місця, читання призупиняється
+    // до звільнення вихідного буфера: клієнт, що не читає відповіді, не змусить сервер їх накопичувати.
+    private void process() throws IOException {
+        boolean blocked;
+        do {
+            blocked = false;
+            in.flip();
+            while (in.remaining() >= SidecarProtocol.HEADER_BYTES) {
+                int length = in.getInt(in.position());
+                if (length < 0 || length > maxFrameBytes) {
+                    throw new IOException("Некоректна довжина кадру: " + length);
+                }
+                if (in.remaining() < SidecarProtocol.HEADER_BYTES + length) {
+                    break;
+                }
+                if (out.remaining() < maxResponseBytes) {
+                    blocked = true;
+                    break;
+                }
+                int start = in.position() + SidecarProtocol.HEADER_BYTES;
+                String token = new String(in.array(), in.arrayOffset() + start, length, StandardCharsets.ISO_8859_1);
+                in.position(start + length);
+                int responseStart = out.position();
+                try {
+                    handler.accept(token, out);
+                } catch (RuntimeException e) {
+                    // Частково записану відповідь відкидаємо, клієнт отримує помилку, а з'єднання
+                    // закривається циклом обробки: решта запитів у буфері лишається без відповіді
+                    out.position(responseStart);
+                    SidecarProtocol.writeFailure(out, SidecarProtocol.STATUS_ERROR, "Внутрішня помилка сервера");
+                    flush();
+                    throw e;
+                }
+            }
+            in.compact();
+            flush();
+        } while (blocked && out.position() == 0);
+    }
+
+    private void flush() throws IOException {
+        out.flip();
+        channel.write(out);
+        out.compact();
+        key.interestOps(out.position() > 0 ? SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+    }
+}
@@ -0,0 +1,116 @@
+package com.lab2.sidecar;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BiConsumer;
+
+final class SidecarEventLoop implements Runnable {
+
+    private static final Logger logger = LoggerFactory.getLogger(SidecarEventLoop.class);
+
+    private final Selector selector;
+    private final Queue<SocketChannel> pending = new ConcurrentLinkedQueue<>();
+    private final BiConsumer<String, ByteBuffer> handler;
+    private final int maxFrameBytes;
+    private final int maxResponseBytes;
+    private final Thread thread;
+
+    private volatile boolean running = true;
+
+    SidecarEventLoop(String name, BiConsumer<String, ByteBuffer> handler, int maxFrameBytes, int maxResponseBytes)
+            throws IOException {
+        this.selector = Selector.open();
+        this.handler = handler;
+        this.maxFrameBytes = maxFrameBytes;
+        this.maxResponseBytes = maxResponseBytes;
+        this.thread = new Thread(this, name);
+        this.thread.setDaemon(true);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    void register(SocketChannel channel) {
+        pending.add(channel);
+        selector.wakeup();
+    }
+
+    void stop() throws InterruptedException {
+        running = false;
+        selector.wakeup();
+        thread.join(5000);
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (running) {
+                selector.select();
+                registerPending();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    handle(key);
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Цикл обробки sidecar-з'єднань зупинено: {}", e.getMessage());
+        } finally {
+            for (SelectionKey key : selector.keys()) {
+                ((SidecarConnection) key.attachment()).close();
+            }
+            try {
+                selector.close();
+            } catch (IOException ignored) {
+                // Селектор більше не використовується
+            }
+        }
+    }
+
+    private void registerPending() {
+        SocketChannel channel;
+        while ((channel = pending.poll()) != null) {
+            try {
+                channel.configureBlocking(false);
+                SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+                key.attach(new SidecarConnection(channel, key, handler, maxFrameBytes, maxResponseBytes));
+            } catch (IOException e) {
+                logger.debug("Не вдалося зареєструвати sidecar-з'єднання: {}", e.getMessage());
+                try {
+                    channel.close();
+                } catch (IOException ignored) {
+                    // З'єднання і так відкинуто
+                }
+            }
+        }
+    }
+
+    private void handle(SelectionKey key) {
+        SidecarConnection connection = (SidecarConnection) key.attachment();
+        try {
+            if (key.isReadable()) {
+                connection.onReadable();
+            } else if (key.isWritable()) {
+                connection.onWritable();
+            }
+        } catch (IOException e) {
+            logger.debug("Sidecar-з'єднання закрито: {}", e.getMessage());
+            connection.close();
+        } catch (RuntimeException e) {
+            // Збій одного запиту закриває лише його з'єднання, а не весь цикл з іншими клієнтами
+            logger.error("Помилка обробки sidecar-запиту", e);
+            connection.close();
+        }
+    }
+}
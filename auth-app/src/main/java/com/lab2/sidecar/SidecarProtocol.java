@@ -0,0 +1,107 @@
+package com.lab2.sidecar;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+// Кадр запиту: u32 довжина + байти токену (ASCII).
+// Кадр відповіді: u32 довжина + u8 статус; для VALID далі i64 exp, рядки username, email, applicationName,
+// для інших статусів — рядок з повідомленням. Рядок: u16 довжина + UTF-8, 0xFFFF означає null.
+// Відповіді повертаються в порядку запитів, тож клієнт може надсилати кілька кадрів не чекаючи відповіді.
+public final class SidecarProtocol {
+
+    public static final int HEADER_BYTES = 4;
+
+    public static final byte STATUS_VALID = 0;
+    public static final byte STATUS_INVALID = 1;
+    public static final byte STATUS_ERROR = 2;
+
+    // Тіло відповіді (статус і поля) ніколи не перевищує цього розміру: з'єднання резервує під нього
+    // місце у вихідному буфері ще до обробки запиту
+    static final int MAX_MESSAGE_BYTES = 1024;
+
+    private static final int NULL_STRING = 0xFFFF;
+
+    private SidecarProtocol() {
+    }
+
+    public static void writeRequest(ByteBuffer out, String token) {
+        out.putInt(token.length());
+        for (int i = 0; i < token.length(); i++) {
+            out.put((byte) token.charAt(i));
+        }
+    }
+
+    public static Response readResponse(ByteBuffer frame) {
+        byte status = frame.get();
+        if (status == STATUS_VALID) {
+            long expiresAt = frame.getLong();
+            return new Response(status, expiresAt, readString(frame), readString(frame), readString(frame), null);
+        }
+        return new Response(status, 0, null, null, null, readString(frame));
+    }
+
+    // Повертає false і нічого не пише, якщо claims не вміщуються в MAX_MESSAGE_BYTES
+    static boolean writeValid(ByteBuffer out, long expiresAtEpochSecond, String username, String email,
+                              String applicationName) {
+        byte[] user = encode(username);
+        byte[] mail = encode(email);
+        byte[] application = encode(applicationName);
+        if (1 + Long.BYTES + encodedLength(user) + encodedLength(mail) + encodedLength(application)
+                > MAX_MESSAGE_BYTES) {
+            return false;
+        }
+        int start = out.position();
+        out.putInt(0);
+        out.put(STATUS_VALID);
+        out.putLong(expiresAtEpochSecond);
+        writeString(out, user);
+        writeString(out, mail);
+        writeString(out, application);
+        out.putInt(start, out.position() - start - HEADER_BYTES);
+        return true;
+    }
+
+    static void writeFailure(ByteBuffer out, byte status, String message) {
+        byte[] text = encode(message);
+        if (1 + encodedLength(text) > MAX_MESSAGE_BYTES) {
+            // Символ UTF-8 займає до 3 байтів на char, тож обрізаний рядок гарантовано вміщується
+            text = encode(message.substring(0, (MAX_MESSAGE_BYTES - 3) / 3));
+        }
+        int start = out.position();
+        out.putInt(0);
+        out.put(status);
+        writeString(out, text);
+        out.putInt(start, out.position() - start - HEADER_BYTES);
+    }
+
+    private static byte[] encode(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int encodedLength(byte[] bytes) {
+        return Short.BYTES + (bytes == null ? 0 : bytes.length);
+    }
+
+    private static void writeString(ByteBuffer out, byte[] bytes) {
+        if (bytes == null) {
+            out.putShort((short) NULL_STRING);
+            return;
+        }
+        out.putShort((short) bytes.length);
+        out.put(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = Short.toUnsignedInt(in.getShort());
+        if (length == NULL_STRING) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public record Response(byte status, long expiresAtEpochSecond, String username, String email,
+                           String applicationName, String message) {
+    }
+}
@@ -0,0 +1,182 @@
+package com.lab2.sidecar;
+
+import com.lab2.model.ClaimsBackedTokenData;
+import com.lab2.model.TokenData;
+import com.lab2.service.TokenService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.ZoneId;
+import java.util.Set;
+
+@Component
+@ConditionalOnProperty(name = "sidecar.uds.path")
+public class UdsValidationServer implements ApplicationListener<ApplicationReadyEvent>, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(UdsValidationServer.class);
+
+    private static final Set<PosixFilePermission> OWNER_ONLY = PosixFilePermissions.fromString("rw-------");
+
+    private final TokenService tokenService;
+    private final Path path;
+    private final int eventLoopCount;
+    private final int maxFrameBytes;
+
+    private volatile ServerSocketChannel serverChannel;
+    private volatile Thread acceptor;
+    private SidecarEventLoop[] eventLoops;
+
+    @Autowired
+    public UdsValidationServer(TokenService tokenService,
+                               @Value("${sidecar.uds.path}") String path,
+                               @Value("${sidecar.uds.event-loops:2}") int eventLoopCount,
+                               @Value("${jwt.max-length:4096}") int maxTokenLength) {
+        if (path.isBlank() || eventLoopCount <= 0) {
+            throw new IllegalArgumentException("Невірні параметри sidecar-сокета");
+        }
+        this.tokenService = tokenService;
+        this.path = Path.of(path);
+        this.eventLoopCount = eventLoopCount;
+        this.maxFrameBytes = maxTokenLength;
+    }
+
+    @Override
+    public synchronized void onApplicationEvent(ApplicationReadyEvent event) {
+        if (serverChannel != null) {
+            return;
+        }
+        try {
+            start();
+        } catch (IOException e) {
+            throw new IllegalStateException("Не вдалося відкрити sidecar-сокет " + path + ": " + e.getMessage(), e);
+        }
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    synchronized void start() throws IOException {
+        removeStaleSocket();
+        ServerSocketChannel channel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        channel.bind(UnixDomainSocketAddress.of(path));
+        // Доступ лише власнику процесу: сокет віддає claims будь-кому, хто до нього під'єднається
+        if (path.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            Files.setPosixFilePermissions(path, OWNER_ONLY);
+        }
+        eventLoops = new SidecarEventLoop[eventLoopCount];
+        for (int i = 0; i < eventLoopCount; i++) {
+            eventLoops[i] = new SidecarEventLoop("uds-loop-" + i, this::handle, maxFrameBytes,
+                    SidecarProtocol.HEADER_BYTES + SidecarProtocol.MAX_MESSAGE_BYTES);
+            eventLoops[i].start();
+        }
+        serverChannel = channel;
+        Thread thread = new Thread(this::acceptLoop, "uds-accept");
+        thread.setDaemon(true);
+        acceptor = thread;
+        thread.start();
+        logger.info("Sidecar-сокет перевірки токенів відкрито: {}", path);
+    }
+
+    @Override
+    public synchronized void destroy() throws Exception {
+        ServerSocketChannel channel = serverChannel;
+        if (channel == null) {
+            return;
+        }
+        serverChannel = null;
+        channel.close();
+        acceptor.join(5000);
+        for (SidecarEventLoop eventLoop : eventLoops) {
+            eventLoop.stop();
+        }
+        Files.deleteIfExists(path);
+        logger.info("Sidecar-сокет перевірки токенів закрито");
+    }
+
+    // Шлях видаляється лише тоді, коли це сокет, який ніхто не слухає: звичайний файл
+    // або сокет іншого живого процесу за цим шляхом означають помилку конфігурації
+    private void removeStaleSocket() throws IOException {
+        if (!Files.exists(path, LinkOption.NOFOLLOW_LINKS)) {
+            return;
+        }
+        if (!Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS).isOther()) {
+            throw new IOException("шлях зайнятий файлом, що не є сокетом");
+        }
+        try (SocketChannel probe = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+            probe.connect(UnixDomainSocketAddress.of(path));
+            throw new IOException("сокет уже обслуговується іншим процесом");
+        } catch (ConnectException e) {
+            logger.info("Видаляю застарілий sidecar-сокет: {}", path);
+        }
+        Files.delete(path);
+    }
+
+    private void acceptLoop() {
+        int next = 0;
+        while (true) {
+            ServerSocketChannel channel = serverChannel;
+            if (channel == null) {
+                return;
+            }
+            try {
+                SocketChannel client = channel.accept();
+                eventLoops[next].register(client);
+                next = (next + 1) % eventLoops.length;
+            } catch (ClosedChannelException e) {
+                return;
+            } catch (IOException e) {
+                logger.warn("Помилка прийому sidecar-з'єднання: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void handle(String token, ByteBuffer out) {
+        TokenData tokenData;
+        try {
+            tokenData = tokenService.validateToken(token);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            SidecarProtocol.writeFailure(out, SidecarProtocol.STATUS_INVALID, e.getMessage());
+            return;
+        } catch (RuntimeException e) {
+            logger.error("Помилка перевірки токену через sidecar-сокет", e);
+            SidecarProtocol.writeFailure(out, SidecarProtocol.STATUS_ERROR, "Внутрішня помилка сервера");
+            return;
+        }
+        if (!SidecarProtocol.writeValid(out, expiresAtEpochSecond(tokenData), tokenData.getUsername(),
+                tokenData.getEmail(), tokenData.getApplicationName())) {
+            logger.warn("Claims токену користувача {} не вміщуються у відповідь sidecar-сокета",
+                    tokenData.getUsername());
+            SidecarProtocol.writeFailure(out, SidecarProtocol.STATUS_ERROR, "Claims токену не вміщуються у відповідь");
+        }
+    }
+
+    private static long expiresAtEpochSecond(TokenData tokenData) {
+        if (tokenData instanceof ClaimsBackedTokenData claimsBacked) {
+            return claimsBacked.getClaims().getExpiresAtEpochSecond();
+        }
+        return tokenData.getExpiresAt() == null ? 0
+                : tokenData.getExpiresAt().atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+}
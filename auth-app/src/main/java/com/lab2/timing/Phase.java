@@ -0,0 +1,22 @@
+package com.lab2.timing;
+
+public enum Phase {
+    AUTH("auth"),
+    PRECHECK("precheck"),
+    HMAC("hmac"),
+    CLAIMS("claims"),
+    VALIDATION("validation"),
+    ISSUE("issue"),
+    HANDLER("handler"),
+    JSON("json");
+
+    private final String metricName;
+
+    Phase(String metricName) {
+        this.metricName = metricName;
+    }
+
+    public String getMetricName() {
+        return metricName;
+    }
+}
@@ -0,0 +1,40 @@
+package com.lab2.timing;
+
+public final class PhaseTimer {
+
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+
+    private static volatile boolean active;
+
+    private PhaseTimer() {
+    }
+
+    public static long start() {
+        return active && CURRENT.get() != null ? System.nanoTime() : 0;
+    }
+
+    public static void stop(Phase phase, long started) {
+        if (started != 0) {
+            RequestTiming timing = CURRENT.get();
+            if (timing != null) {
+                timing.add(phase, System.nanoTime() - started);
+            }
+        }
+    }
+
+    static void activate() {
+        active = true;
+    }
+
+    static RequestTiming current() {
+        return active ? CURRENT.get() : null;
+    }
+
+    static void bind(RequestTiming timing) {
+        CURRENT.set(timing);
+    }
+
+    static void unbind() {
+        CURRENT.remove();
+    }
+}
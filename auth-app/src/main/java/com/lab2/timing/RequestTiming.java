@@ -0,0 +1,58 @@
+package com.lab2.timing;
+
+final class RequestTiming {
+
+    private static final Phase[] PHASES = Phase.values();
+
+    final long startedNanos = System.nanoTime();
+    final long startedAtMillis = System.currentTimeMillis();
+    private final long[] phaseNanos = new long[PHASES.length];
+    private long handlerStartedNanos;
+
+    void add(Phase phase, long nanos) {
+        phaseNanos[phase.ordinal()] += nanos;
+    }
+
+    long get(Phase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+
+    void handlerStarted() {
+        handlerStartedNanos = System.nanoTime();
+    }
+
+    void handlerFinished() {
+        if (handlerStartedNanos != 0) {
+            add(Phase.HANDLER, System.nanoTime() - handlerStartedNanos);
+            handlerStartedNanos = 0;
+        }
+    }
+
+    String toServerTiming(long totalNanos) {
+        StringBuilder header = new StringBuilder(128);
+        for (Phase phase : PHASES) {
+            long nanos = phaseNanos[phase.ordinal()];
+            if (nanos > 0) {
+                appendEntry(header, phase.getMetricName(), nanos);
+            }
+        }
+        appendEntry(header, "total", totalNanos);
+        return header.toString();
+    }
+
+    private static void appendEntry(StringBuilder header, String name, long nanos) {
+        if (!header.isEmpty()) {
+            header.append(", ");
+        }
+        long micros = nanos / 1000;
+        long fraction = micros % 1000;
+        header.append(name).append(";dur=").append(micros / 1000).append('.');
+        if (fraction < 100) {
+            header.append('0');
+        }
+        if (fraction < 10) {
+            header.append('0');
+        }
+        header.append(fraction);
+    }
+}
@@ -0,0 +1,7 @@
+package com.lab2.timing;
+
+import java.util.Map;
+
+public record SlowRequest(String method, String path, int status, String startedAt, double totalMillis,
+                          Map<String, Double> phasesMillis) {
+}
@@ -0,0 +1,103 @@
+package com.lab2.timing;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+@Component
+@ConditionalOnProperty(name = "timing.enabled", havingValue = "true")
+public class SlowRequestLog {
+
+    private final int capacity;
+    private final long windowMillis;
+    private final PriorityQueue<Entry> slowest = new PriorityQueue<>(Comparator.comparingLong(Entry::totalNanos));
+
+    private volatile long admissionNanos;
+    private volatile long admissionValidUntilMillis;
+
+    @Autowired
+    public SlowRequestLog(@Value("${timing.slow-requests.capacity:20}") int capacity,
+                          @Value("${timing.slow-requests.window-seconds:300}") long windowSeconds) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Місткість журналу повільних запитів повинна бути додатньою");
+        }
+        this.capacity = capacity;
+        this.windowMillis = windowSeconds * 1000;
+    }
+
+    void offer(RequestTiming timing, String method, String path, int status, long totalNanos) {
+        long now = System.currentTimeMillis();
+        if (totalNanos <= admissionNanos && now < admissionValidUntilMillis) {
+            return;
+        }
+        synchronized (this) {
+            evictExpired(now);
+            if (slowest.size() >= capacity) {
+                if (totalNanos <= slowest.peek().totalNanos()) {
+                    return;
+                }
+                slowest.poll();
+            }
+            slowest.add(new Entry(timing, method, path, status, totalNanos, now));
+            updateAdmission();
+        }
+    }
+
+    public synchronized List<SlowRequest> snapshot() {
+        evictExpired(System.currentTimeMillis());
+        List<Entry> entries = new ArrayList<>(slowest);
+        entries.sort(Comparator.comparingLong(Entry::totalNanos).reversed());
+        List<SlowRequest> requests = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            Map<String, Double> phases = new LinkedHashMap<>();
+            for (Phase phase : Phase.values()) {
+                long nanos = entry.timing().get(phase);
+                if (nanos > 0) {
+                    phases.put(phase.getMetricName(), nanos / 1_000_000.0);
+                }
+            }
+            requests.add(new SlowRequest(entry.method(), entry.path(), entry.status(),
+                    Instant.ofEpochMilli(entry.timing().startedAtMillis).toString(),
+                    entry.totalNanos() / 1_000_000.0, phases));
+        }
+        return requests;
+    }
+
+    public synchronized void clear() {
+        slowest.clear();
+        updateAdmission();
+    }
+
+    private void evictExpired(long now) {
+        if (slowest.removeIf(entry -> entry.recordedAtMillis() + windowMillis <= now)) {
+            updateAdmission();
+        }
+    }
+
+    private void updateAdmission() {
+        if (slowest.size() < capacity) {
+            admissionNanos = 0;
+            admissionValidUntilMillis = 0;
+            return;
+        }
+        long validUntil = Long.MAX_VALUE;
+        for (Entry entry : slowest) {
+            validUntil = Math.min(validUntil, entry.recordedAtMillis() + windowMillis);
+        }
+        admissionNanos = slowest.peek().totalNanos();
+        admissionValidUntilMillis = validUntil;
+    }
+
+    private record Entry(RequestTiming timing, String method, String path, int status, long totalNanos,
+                         long recordedAtMillis) {
+    }
+}
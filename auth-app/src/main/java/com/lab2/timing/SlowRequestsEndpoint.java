@@ -0,0 +1,27 @@
+package com.lab2.timing;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "timing.enabled", havingValue = "true")
+@Endpoint(id = "slowrequests")
+public class SlowRequestsEndpoint {
+
+    private final SlowRequestLog slowRequestLog;
+
+    @Autowired
+    public SlowRequestsEndpoint(SlowRequestLog slowRequestLog) {
+        this.slowRequestLog = slowRequestLog;
+    }
+
+    @ReadOperation
+    public List<SlowRequest> slowRequests() {
+        return slowRequestLog.snapshot();
+    }
+}
@@ -0,0 +1,57 @@
+package com.lab2.timing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+public class TimedJacksonConverter extends MappingJackson2HttpMessageConverter {
+
+    public TimedJacksonConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        long started = PhaseTimer.start();
+        try {
+            return super.read(type, contextClass, inputMessage);
+        } finally {
+            PhaseTimer.stop(Phase.JSON, started);
+        }
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        long started = PhaseTimer.start();
+        if (started == 0) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(512);
+        super.writeInternal(object, type, new BufferedOutputMessage(outputMessage.getHeaders(), buffer));
+        PhaseTimer.stop(Phase.JSON, started);
+        buffer.writeTo(outputMessage.getBody());
+    }
+
+    private record BufferedOutputMessage(HttpHeaders headers, OutputStream body) implements HttpOutputMessage {
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.lab2.timing;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+public class TimingFilter implements Filter {
+
+    static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private final SlowRequestLog slowRequestLog;
+
+    public TimingFilter(SlowRequestLog slowRequestLog) {
+        this.slowRequestLog = slowRequestLog;
+        PhaseTimer.activate();
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        RequestTiming timing = new RequestTiming();
+        TimedResponse timedResponse = new TimedResponse((HttpServletResponse) response, timing);
+        PhaseTimer.bind(timing);
+        try {
+            chain.doFilter(request, timedResponse);
+        } finally {
+            PhaseTimer.unbind();
+            timedResponse.applyServerTiming();
+            slowRequestLog.offer(timing, httpRequest.getMethod(), httpRequest.getRequestURI(),
+                    timedResponse.getStatus(), System.nanoTime() - timing.startedNanos);
+        }
+    }
+
+    private static final class TimedResponse extends HttpServletResponseWrapper {
+
+        private final RequestTiming timing;
+        private boolean applied;
+
+        TimedResponse(HttpServletResponse response, RequestTiming timing) {
+            super(response);
+            this.timing = timing;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            applyServerTiming();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            applyServerTiming();
+            return super.getWriter();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            applyServerTiming();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            applyServerTiming();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            applyServerTiming();
+            super.flushBuffer();
+        }
+
+        void applyServerTiming() {
+            if (!applied && !isCommitted()) {
+                applied = true;
+                setHeader(SERVER_TIMING_HEADER, timing.toServerTiming(System.nanoTime() - timing.startedNanos));
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.lab2.warmup;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+@Component("warmup")
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    private final WarmupState warmupState;
+
+    @Autowired
+    public WarmupHealthIndicator(WarmupState warmupState) {
+        this.warmupState = warmupState;
+    }
+
+    @Override
+    public Health health() {
+        if (!warmupState.isComplete()) {
+            return Health.outOfService().withDetail("phase", "warming-up").build();
+        }
+        return Health.up()
+                .withDetail("durationMs", warmupState.getDurationMillis())
+                .withDetail("iterations", warmupState.getIterations())
+                .build();
+    }
+}
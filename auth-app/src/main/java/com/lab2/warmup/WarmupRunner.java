@@ -0,0 +1,204 @@
+package com.lab2.warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lab2.audit.AuditTrail;
+import com.lab2.dto.LoginRequest;
+import com.lab2.dto.RegistrationRequest;
+import com.lab2.dto.TokenOperationResponse;
+import com.lab2.expiry.TimingWheelExpiryScheduler;
+import com.lab2.filter.ConcurrencyLimitFilter;
+import com.lab2.model.TokenPair;
+import com.lab2.service.AuthService;
+import com.lab2.service.TokenService;
+import com.lab2.service.impl.AuthServiceImpl;
+import com.lab2.service.impl.TokenServiceImpl;
+import com.lab2.timing.SlowRequestLog;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class WarmupRunner implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger logger = LoggerFactory.getLogger(WarmupRunner.class);
+
+    private static final String WARMUP_USERNAME = "warmup_probe";
+    private static final String WARMUP_PASSWORD = "Warmup1!";
+    private static final String WARMUP_EMAIL = "warmup@example.com";
+    private static final String LOGIN_BODY =
+            "{\"username\":\"" + WARMUP_USERNAME + "\",\"password\":\"" + WARMUP_PASSWORD + "\"}";
+    private static final int HTTP_CYCLE_EVERY = 4;
+    private static final int LATENCY_WINDOW = 100;
+
+    private final TokenServiceImpl tokenService;
+    private final ObjectMapper objectMapper;
+    private final WarmupState warmupState;
+    private final ObjectProvider<SlowRequestLog> slowRequestLog;
+    private final ObjectProvider<ConcurrencyLimitFilter> concurrencyLimitFilter;
+
+    private final boolean enabled;
+    private final int maxIterations;
+    private final int minIterations;
+    private final long targetLatencyMicros;
+    private final long maxDurationMillis;
+
+    @Autowired
+    public WarmupRunner(TokenServiceImpl tokenService, ObjectMapper objectMapper, WarmupState warmupState,
+                        ObjectProvider<SlowRequestLog> slowRequestLog,
+                        ObjectProvider<ConcurrencyLimitFilter> concurrencyLimitFilter, MeterRegistry meterRegistry,
+                        @Value("${warmup.enabled:true}") boolean enabled,
+                        @Value("${warmup.iterations:1500}") int maxIterations,
+                        @Value("${warmup.min-iterations:200}") int minIterations,
+                        @Value("${warmup.target-latency-micros:0}") long targetLatencyMicros,
+                        @Value("${warmup.max-duration-ms:60000}") long maxDurationMillis) {
+        this.tokenService = tokenService;
+        this.objectMapper = objectMapper;
+        this.warmupState = warmupState;
+        this.slowRequestLog = slowRequestLog;
+        this.concurrencyLimitFilter = concurrencyLimitFilter;
+        this.enabled = enabled;
+        this.maxIterations = maxIterations;
+        this.minIterations = minIterations;
+        this.targetLatencyMicros = targetLatencyMicros;
+        this.maxDurationMillis = maxDurationMillis;
+
+        TimeGauge.builder("auth.warmup.duration", warmupState, TimeUnit.MILLISECONDS, WarmupState::getDurationMillis)
+                .description("Тривалість фази прогріву JIT")
+                .register(meterRegistry);
+        Gauge.builder("auth.warmup.iterations", warmupState, WarmupState::getIterations)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (!enabled) {
+            warmupState.complete(0, 0);
+            return;
+        }
+        Integer port = event.getApplicationContext() instanceof WebServerApplicationContext context
+                ? context.getWebServer().getPort()
+                : null;
+        Thread thread = new Thread(() -> run(port), "jit-warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // Сервісний цикл іде через ізольовані копії сервісів: ті самі класи й методи прогріваються,
+    // але робочий стан не отримує ні сесій, ні deny-list, ні подій у стрічці відкликань, ні аудиту.
+    // HTTP-цикл звертається лише до GET-ендпоінтів без стану; ліміт входу він не зачіпає. Перевірка
+    // токену проходить увесь ланцюжок фільтрів (JWT з ізольованої копії підписано тим самим ключем),
+    // тож холодні затримки, які опустили ліміт перевірки токенів, скидаються після прогріву.
+    void run(Integer port) {
+        logger.info("Початок прогріву: до {} ітерацій", maxIterations);
+        HttpClient httpClient = port != null && port > 0
+                ? HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build()
+                : null;
+        TimingWheelExpiryScheduler scheduler = new TimingWheelExpiryScheduler();
+        TokenService tokens = tokenService.isolatedCopy(scheduler);
+        AuthService auth = new AuthServiceImpl(tokens, AuditTrail.NONE);
+        long started = System.nanoTime();
+        long deadline = started + TimeUnit.MILLISECONDS.toNanos(maxDurationMillis);
+        long[] window = new long[LATENCY_WINDOW];
+        long windowSum = 0;
+        int iteration = 0;
+
+        try {
+            while (iteration < maxIterations && System.nanoTime() < deadline) {
+                long cycleStarted = System.nanoTime();
+                String accessToken = serviceCycle(auth, tokens);
+                if (httpClient != null && iteration % HTTP_CYCLE_EVERY == 0) {
+                    httpCycle(httpClient, port, accessToken);
+                }
+                long cycleMicros = (System.nanoTime() - cycleStarted) / 1000;
+
+                windowSum += cycleMicros - window[iteration % LATENCY_WINDOW];
+                window[iteration % LATENCY_WINDOW] = cycleMicros;
+                iteration++;
+
+                if (targetLatencyMicros > 0 && iteration >= Math.max(minIterations, LATENCY_WINDOW)
+                        && windowSum / LATENCY_WINDOW <= targetLatencyMicros) {
+                    logger.info("Досягнуто цільової затримки прогріву: {} мкс", windowSum / LATENCY_WINDOW);
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Прогрів перервано помилкою: {}", e.getMessage());
+        } finally {
+            scheduler.destroy();
+            long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+            slowRequestLog.ifAvailable(SlowRequestLog::clear);
+            concurrencyLimitFilter.ifAvailable(ConcurrencyLimitFilter::resetLimits);
+            warmupState.complete(durationMillis, iteration);
+            logger.info("Прогрів завершено за {} мс, ітерацій: {}", durationMillis, iteration);
+        }
+    }
+
+    // Повертає access-токен, який лишається дійсним: його перевіряє HTTP-цикл
+    private String serviceCycle(AuthService authService, TokenService tokenService) {
+        try {
+            LoginRequest login = objectMapper.readValue(LOGIN_BODY, LoginRequest.class);
+            objectMapper.writeValueAsBytes(authService.login(login));
+
+            RegistrationRequest registration = new RegistrationRequest();
+            registration.setUsername(WARMUP_USERNAME);
+            registration.setPassword(WARMUP_PASSWORD);
+            registration.setEmail(WARMUP_EMAIL);
+            registration.setBirthday(LocalDate.of(2000, 1, 1));
+            registration.setPhoneNumber("+380501234567");
+            objectMapper.writeValueAsBytes(authService.register(registration));
+
+            TokenPair tokens = tokenService.issueTokens(WARMUP_USERNAME, WARMUP_EMAIL, Map.of("userId", 0L));
+            tokenService.validateToken(tokens.accessToken());
+            TokenPair rotated = tokenService.rotateRefreshToken(tokens.refreshToken());
+            objectMapper.writeValueAsBytes(new TokenOperationResponse(true, "Токен успішно оновлено", rotated));
+            tokenService.validateToken(rotated.accessToken());
+            tokenService.invalidateToken(rotated.accessToken());
+            return tokens.accessToken();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Помилка серіалізації під час прогріву", e);
+        }
+    }
+
+    private void httpCycle(HttpClient httpClient, int port, String accessToken) {
+        String baseUrl = "http://localhost:" + port;
+        try {
+            HttpRequest info = HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth")).GET().build();
+            httpClient.send(info, HttpResponse.BodyHandlers.discarding());
+            HttpRequest root = HttpRequest.newBuilder(URI.create(baseUrl + "/")).GET().build();
+            httpClient.send(root, HttpResponse.BodyHandlers.discarding());
+            HttpRequest validate = HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/token/validate"))
+                    .header("Authorization", "Bearer " + accessToken)
+                    .GET()
+                    .build();
+            HttpResponse<byte[]> response = httpClient.send(validate, HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() != 200) {
+                logger.debug("Перевірка токену під час прогріву повернула статус {}", response.statusCode());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Прогрів перервано", e);
+        } catch (IOException e) {
+            logger.debug("HTTP-цикл прогріву не вдався: {}", e.getMessage());
+        }
+    }
+}
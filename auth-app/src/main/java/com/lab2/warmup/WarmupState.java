@@ -0,0 +1,29 @@
+package com.lab2.warmup;
+
+import org.springframework.stereotype.Component;
+
+@Component
+public class WarmupState {
+
+    private volatile boolean complete;
+    private volatile long durationMillis;
+    private volatile long iterations;
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public long getIterations() {
+        return iterations;
+    }
+
+    void complete(long durationMillis, long iterations) {
+        this.durationMillis = durationMillis;
+        this.iterations = iterations;
+        this.complete = true;
+    }
+}
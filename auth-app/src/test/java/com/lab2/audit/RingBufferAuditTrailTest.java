@@ -0,0 +1,102 @@
+package com.lab2.audit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RingBufferAuditTrailTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testWritesEventsAsCompressedJsonLines() throws Exception {
+        RingBufferAuditTrail trail = new RingBufferAuditTrail(true, directory.toString(), 64, 16, 1 << 20, 5,
+                new String[]{"warmup_probe"});
+
+        trail.record(AuditEventType.LOGIN, true, "testuser", null);
+        trail.record(AuditEventType.REGISTRATION, false, "тест \"user\"", "Email format is invalid\n");
+        trail.record(AuditEventType.LOGIN, true, "warmup_probe", null);
+        trail.record(AuditEventType.TOKEN_INVALIDATION, true, null, null);
+        trail.destroy();
+
+        List<JsonNode> events = readEvents();
+        assertEquals(3, events.size(), "Події службового користувача прогріву не повинні записуватися");
+        assertEquals("login", events.get(0).get("event").asText());
+        assertTrue(events.get(0).get("success").asBoolean());
+        assertEquals("testuser", events.get(0).get("subject").asText());
+        assertTrue(events.get(0).get("detail").isNull());
+        assertEquals("тест \"user\"", events.get(1).get("subject").asText());
+        assertEquals("Email format is invalid\n", events.get(1).get("detail").asText());
+        assertEquals("token_invalidation", events.get(2).get("event").asText());
+        assertTrue(events.get(2).get("subject").isNull());
+        assertEquals(3, trail.writtenCount());
+    }
+
+    @Test
+    void testCountsDroppedEventsWhenBufferIsFull() throws Exception {
+        RingBufferAuditTrail trail = new RingBufferAuditTrail(true, directory.toString(), 2, 1, 1 << 20, 5,
+                new String[0]);
+        int total = 50_000;
+
+        for (int i = 0; i < total; i++) {
+            trail.record(AuditEventType.LOGIN, true, "testuser", null);
+        }
+        trail.destroy();
+
+        assertEquals(total, trail.writtenCount() + trail.droppedCount(), "Кожна подія повинна бути записана або врахована як відкинута");
+        assertEquals(trail.writtenCount(), readEvents().size());
+    }
+
+    @Test
+    void testRotatesFilesAndKeepsNewest() throws Exception {
+        RingBufferAuditTrail trail = new RingBufferAuditTrail(true, directory.toString(), 1024, 1, 64, 3,
+                new String[0]);
+
+        for (int i = 0; i < 20; i++) {
+            trail.record(AuditEventType.LOGIN, true, "user" + i, null);
+            while (trail.writtenCount() <= i) {
+                Thread.onSpinWait();
+            }
+        }
+        trail.destroy();
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(3, files.count(), "Повинні залишатися лише найновіші файли аудиту");
+        }
+    }
+
+    private List<JsonNode> readEvents() throws IOException {
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(directory)) {
+            files = stream.sorted().toList();
+        }
+        List<JsonNode> events = new ArrayList<>();
+        for (Path file : files) {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    events.add(mapper.readTree(line));
+                }
+            }
+        }
+        return events;
+    }
+}
@@ -0,0 +1,35 @@
+package com.lab2.benchmark;
+
+import java.lang.management.ManagementFactory;
+
+public final class AllocationMeter {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private AllocationMeter() {
+    }
+
+    public static Result measure(String name, int warmupIterations, int iterations, Runnable operation) {
+        for (int i = 0; i < warmupIterations; i++) {
+            operation.run();
+        }
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = THREADS.getThreadAllocatedBytes(threadId);
+        long started = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            operation.run();
+        }
+        long elapsed = System.nanoTime() - started;
+        long allocated = THREADS.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        return new Result(name, (double) allocated / iterations, (double) elapsed / iterations);
+    }
+
+    public record Result(String name, double bytesPerOperation, double nanosPerOperation) {
+
+        @Override
+        public String toString() {
+            return String.format("%-40s %10.1f B/op %10.1f ns/op", name, bytesPerOperation, nanosPerOperation);
+        }
+    }
+}
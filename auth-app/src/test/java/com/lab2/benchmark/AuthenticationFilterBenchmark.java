@@ -0,0 +1,113 @@
+package com.lab2.benchmark;
+
+import ch.qos.logback.classic.Level;
+import com.lab2.annotation.RequiresToken;
+import com.lab2.filter.TokenAuthenticationFilter;
+import com.lab2.service.impl.TokenServiceImpl;
+import jakarta.servlet.ServletException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.util.Base64;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Вартість відмови у фільтрі: без заголовка, відмова попередньої перевірки та відмова лише після HMAC
+// проти успішної автентифікації того самого маршруту. Рядок baseline — ціна самих mock-запиту й відповіді.
+public class AuthenticationFilterBenchmark {
+
+    private static final int WARMUP = 50_000;
+    private static final int ITERATIONS = 200_000;
+    private static final String SECRET = "testSecretKeyForJWTTokenGenerationAndValidationInAuthApplication2024";
+    private static final String PATH = "/api/auth/token/invalidate";
+
+    public static void main(String[] args) throws Exception {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+
+        TokenServiceImpl tokenService = new TokenServiceImpl();
+        set(tokenService, "secretKey", SECRET);
+        set(tokenService, "expirationHours", 24);
+        set(tokenService, "applicationName", "Auth Application");
+        String token = tokenService.generateToken("testuser", "test@example.com", Map.of("userId", 12345L));
+        String forged = token.substring(0, token.lastIndexOf('.') + 1)
+                + Base64.getUrlEncoder().withoutPadding().encodeToString(new byte[32]);
+        String expired = token.substring(0, token.indexOf('.') + 1)
+                + Base64.getUrlEncoder().withoutPadding().encodeToString("{\"sub\":\"testuser\",\"exp\":1}".getBytes())
+                + token.substring(token.lastIndexOf('.'));
+
+        @SuppressWarnings("unchecked")
+        ObjectProvider<RequestMappingHandlerMapping> handlerMapping = mock(ObjectProvider.class);
+        when(handlerMapping.getObject()).thenReturn(handlerMapping());
+        TokenAuthenticationFilter filter = new TokenAuthenticationFilter(tokenService, handlerMapping);
+        filter.afterSingletonsInstantiated();
+
+        // Перший прохід лише прогріває всі гілки, щоб порядок вимірювань не впливав на результат
+        for (boolean report : new boolean[]{false, true}) {
+            print(report, measure("baseline: unprotected route", filter, "/", null));
+            print(report, measure("reject: no Authorization header", filter, PATH, null));
+            print(report, measure("reject: precheck (malformed)", filter, PATH, "not-a-token"));
+            print(report, measure("reject: precheck (expired)", filter, PATH, expired));
+            print(report, measure("reject: HMAC mismatch", filter, PATH, forged));
+            print(report, measure("accept: valid token", filter, PATH, token));
+        }
+    }
+
+    private static void print(boolean report, AllocationMeter.Result result) {
+        if (report) {
+            System.out.println(result);
+        }
+    }
+
+    private static AllocationMeter.Result measure(String name, TokenAuthenticationFilter filter, String path,
+                                                  String token) {
+        return AllocationMeter.measure(name, WARMUP, ITERATIONS, () -> {
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+            if (token != null) {
+                request.addHeader("Authorization", "Bearer " + token);
+            }
+            try {
+                filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (ServletException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private static RequestMappingHandlerMapping handlerMapping() throws NoSuchMethodException {
+        RequestMappingInfo.BuilderConfiguration options = new RequestMappingInfo.BuilderConfiguration();
+        options.setPatternParser(new PathPatternParser());
+        RequestMappingHandlerMapping mapping = new RequestMappingHandlerMapping();
+        mapping.registerMapping(RequestMappingInfo.paths(PATH).methods(RequestMethod.POST).options(options).build(),
+                new ProtectedHandler(), ProtectedHandler.class.getMethod("handle"));
+        return mapping;
+    }
+
+    private static void set(Object target, String field, Object value) throws ReflectiveOperationException {
+        Field declared = TokenServiceImpl.class.getDeclaredField(field);
+        declared.setAccessible(true);
+        declared.set(target, value);
+    }
+
+    public static class ProtectedHandler {
+
+        @RequiresToken
+        public String handle() {
+            return "ok";
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.lab2.benchmark;
+
+import ch.qos.logback.classic.Level;
+import com.lab2.model.TokenData;
+import com.lab2.service.impl.TokenServiceImpl;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+public class ClaimsAllocationBenchmark {
+
+    private static final int WARMUP = 50_000;
+    private static final int ITERATIONS = 200_000;
+    private static final String SECRET = "testSecretKeyForJWTTokenGenerationAndValidationInAuthApplication2024";
+    private static final Set<String> STANDARD_CLAIMS = Set.of(
+            "username", "email", "applicationName", "createdAt", "expiresAt", "sub", "iat", "exp");
+
+    private static volatile Object sink;
+
+    public static void main(String[] args) throws Exception {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+
+        TokenServiceImpl tokenService = new TokenServiceImpl();
+        set(tokenService, "secretKey", SECRET);
+        set(tokenService, "expirationHours", 24);
+        set(tokenService, "applicationName", "Auth Application");
+
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("userId", 12345L);
+        metadata.put("role", "user");
+        metadata.put("loginTime", LocalDateTime.now().toString());
+        String token = tokenService.generateToken("testuser", "test@example.com", metadata);
+        SecretKey key = new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+
+        System.out.println(AllocationMeter.measure("eager TokenData (JJWT)", WARMUP, ITERATIONS,
+                () -> sink = eagerTokenData(key, token).getUsername()));
+        System.out.println(AllocationMeter.measure("lazy view, username only", WARMUP, ITERATIONS,
+                () -> sink = tokenService.validateToken(token).getUsername()));
+        System.out.println(AllocationMeter.measure("lazy view, username + email", WARMUP, ITERATIONS, () -> {
+            TokenData tokenData = tokenService.validateToken(token);
+            sink = tokenData.getUsername();
+            sink = tokenData.getEmail();
+        }));
+        System.out.println(AllocationMeter.measure("lazy view, every field", WARMUP, ITERATIONS, () -> {
+            TokenData tokenData = tokenService.validateToken(token);
+            sink = tokenData.getUsername();
+            sink = tokenData.getEmail();
+            sink = tokenData.getApplicationName();
+            sink = tokenData.getCreatedAt();
+            sink = tokenData.getExpiresAt();
+            sink = tokenData.getMetadata();
+        }));
+    }
+
+    private static TokenData eagerTokenData(SecretKey key, String token) {
+        Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+        Map<String, Object> metadata = new HashMap<>();
+        claims.forEach((name, value) -> {
+            if (!STANDARD_CLAIMS.contains(name)) {
+                metadata.put(name, value instanceof Integer ? Long.valueOf((Integer) value) : value);
+            }
+        });
+        return new TokenData(claims.getSubject(), claims.get("email", String.class),
+                claims.get("applicationName", String.class),
+                LocalDateTime.parse(claims.get("createdAt", String.class)),
+                LocalDateTime.parse(claims.get("expiresAt", String.class)), metadata);
+    }
+
+    private static void set(Object target, String field, Object value) throws ReflectiveOperationException {
+        Field declared = TokenServiceImpl.class.getDeclaredField(field);
+        declared.setAccessible(true);
+        declared.set(target, value);
+    }
+}
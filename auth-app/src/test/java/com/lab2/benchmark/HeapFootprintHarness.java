@@ -0,0 +1,125 @@
+package com.lab2.benchmark;
+
+import ch.qos.logback.classic.Level;
+import com.lab2.model.TokenData;
+import com.lab2.service.impl.TokenServiceImpl;
+import com.lab2.verifier.RevocationState;
+import com.lab2.verifier.TokenVerifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+public class HeapFootprintHarness {
+
+    private static final String SECRET = "testSecretKeyForJWTTokenGenerationAndValidationInAuthApplication2024";
+    private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+    private static Object retained;
+
+    public static void main(String[] args) throws Exception {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        System.out.printf("Утримувана пам'ять купи на %d об'єктів%n", count);
+
+        TokenServiceImpl sessions = tokenService();
+        retained = sessions;
+        report("refresh-сесія (issueTokens)", count, i -> {
+            sessions.issueTokens("user" + i, "user@example.com", metadata());
+            return null;
+        });
+
+        TokenServiceImpl revocations = tokenService();
+        retained = revocations;
+        report("відкликаний токен (invalidateToken)", count, i -> {
+            revocations.invalidateToken(revocations.generateToken("user" + i, "user@example.com", metadata()));
+            return null;
+        });
+
+        TokenServiceImpl validations = tokenService();
+        report("TokenData, лише username", count, i -> {
+            TokenData tokenData = validations.validateToken(validations.generateToken("user" + i, "user@example.com", metadata()));
+            tokenData.getUsername();
+            return tokenData;
+        });
+
+        report("TokenData, усі поля", count, i -> {
+            TokenData tokenData = validations.validateToken(validations.generateToken("user" + i, "user@example.com", metadata()));
+            tokenData.getUsername();
+            tokenData.getEmail();
+            tokenData.getApplicationName();
+            tokenData.getCreatedAt();
+            tokenData.getExpiresAt();
+            tokenData.getMetadata();
+            return tokenData;
+        });
+
+        TokenVerifier verifier = new TokenVerifier(SECRET, new RevocationState(), TokenVerifier.DEFAULT_MAX_TOKEN_LENGTH,
+                count * 2);
+        retained = verifier;
+        report("запис кешу TokenVerifier", count, i -> {
+            verifier.verify(validations.generateToken("user" + i, "user@example.com", metadata()));
+            return null;
+        });
+    }
+
+    private static void report(String name, int count, IntFunction<Object> operation) {
+        for (int i = 0; i < Math.min(count, 2_000); i++) {
+            operation.apply(-1 - i);
+        }
+        Object[] results = new Object[count];
+        long before = usedHeap();
+        for (int i = 0; i < count; i++) {
+            results[i] = operation.apply(i);
+        }
+        long after = usedHeap();
+        System.out.printf("%-40s %10.1f B/об'єкт%n", name, (double) (after - before) / count);
+        Reference.reachabilityFence(results);
+    }
+
+    private static Map<String, Object> metadata() {
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("userId", 12345L);
+        metadata.put("loginTime", LocalDateTime.now().toString());
+        return metadata;
+    }
+
+    private static long usedHeap() {
+        long previous = Long.MAX_VALUE;
+        for (int attempt = 0; attempt < 10; attempt++) {
+            System.gc();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            long used = MEMORY.getHeapMemoryUsage().getUsed();
+            if (Math.abs(previous - used) < 64 * 1024) {
+                return used;
+            }
+            previous = used;
+        }
+        return previous;
+    }
+
+    private static TokenServiceImpl tokenService() throws ReflectiveOperationException {
+        TokenServiceImpl tokenService = new TokenServiceImpl();
+        set(tokenService, "secretKey", SECRET);
+        set(tokenService, "expirationHours", 24);
+        set(tokenService, "applicationName", "Auth Application");
+        return tokenService;
+    }
+
+    private static void set(Object target, String field, Object value) throws ReflectiveOperationException {
+        Field declared = TokenServiceImpl.class.getDeclaredField(field);
+        declared.setAccessible(true);
+        declared.set(target, value);
+    }
+}
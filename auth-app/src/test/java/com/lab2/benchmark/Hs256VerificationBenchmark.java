@@ -0,0 +1,59 @@
+package com.lab2.benchmark;
+
+import ch.qos.logback.classic.Level;
+import com.lab2.model.TokenPrecheck;
+import com.lab2.service.impl.TokenServiceImpl;
+import com.lab2.verifier.PayloadClaims;
+import com.lab2.verifier.SigningKey;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+
+// Порівнює перевірку підпису й exp: загальний парсер JJWT проти швидкого шляху SigningKey
+// (канонічний заголовок, строгий сканер payload, HMAC без проміжних рядків).
+public class Hs256VerificationBenchmark {
+
+    private static final int WARMUP = 50_000;
+    private static final int ITERATIONS = 300_000;
+    private static final String SECRET = "testSecretKeyForJWTTokenGenerationAndValidationInAuthApplication2024";
+
+    private static volatile Object sink;
+
+    public static void main(String[] args) throws Exception {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+
+        TokenServiceImpl tokenService = new TokenServiceImpl();
+        set(tokenService, "secretKey", SECRET);
+        set(tokenService, "expirationHours", 24);
+        set(tokenService, "applicationName", "Auth Application");
+        String token = tokenService.generateToken("testuser", "test@example.com",
+                Map.of("userId", 12345L, "role", "user"));
+
+        SigningKey signingKey = new SigningKey(SECRET, 8192);
+        JwtParser parser = Jwts.parser().verifyWith(signingKey.key()).build();
+
+        System.out.println(AllocationMeter.measure("JJWT parseSignedClaims", WARMUP, ITERATIONS,
+                () -> sink = parser.parseSignedClaims(token).getPayload().getExpiration()));
+        System.out.println(AllocationMeter.measure("JJWT, parser built per request", WARMUP, ITERATIONS,
+                () -> sink = Jwts.parser().verifyWith(signingKey.key()).build()
+                        .parseSignedClaims(token).getPayload().getExpiration()));
+        System.out.println(AllocationMeter.measure("fast path: precheck + HMAC", WARMUP, ITERATIONS, () -> {
+            long now = System.currentTimeMillis() / 1000;
+            if (signingKey.precheck(token, now) != TokenPrecheck.PASSED || !signingKey.verifySignature(token)) {
+                throw new IllegalStateException("Токен не пройшов швидку перевірку");
+            }
+            PayloadClaims claims = signingKey.decodeClaims(token);
+            sink = claims.getExpiresAtEpochSecond();
+        }));
+    }
+
+    private static void set(Object target, String field, Object value) throws ReflectiveOperationException {
+        Field declared = TokenServiceImpl.class.getDeclaredField(field);
+        declared.setAccessible(true);
+        declared.set(target, value);
+    }
+}
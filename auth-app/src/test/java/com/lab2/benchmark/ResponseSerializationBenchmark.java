@@ -0,0 +1,119 @@
+package com.lab2.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lab2.dto.AuthResponse;
+import com.lab2.dto.LoginData;
+import com.lab2.dto.RegistrationData;
+import com.lab2.dto.TokenOperationResponse;
+import com.lab2.model.TokenPair;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+
+public class ResponseSerializationBenchmark {
+
+    private static final int WARMUP = 200_000;
+    private static final int ITERATIONS = 1_000_000;
+    private static final String TOKEN = "eyJraWQiOiJQaXlNeDVfZ05ORiIsImFsZyI6IkhTMjU2In0."
+            + "eyJ1c2VybmFtZSI6InRlc3R1c2VyIiwic3ViIjoidGVzdHVzZXIiLCJpYXQiOjE3OTIzODQ3NTIsImV4cCI6MTc5MjQ3MTE1Mn0."
+            + "gpruw9-U3oAYzY0RV60Xxd1mgz7Es_wyox7B2t0Ugz8";
+
+    private static final String REFRESH_TOKEN = "q3v8Zk1m0cY2u9W4hT7rX5nB6pL0sD3fG8jK1aQ2eR4";
+
+    public static void main(String[] args) {
+        ObjectMapper mapper = new ObjectMapper();
+        OutputStream sink = new DiscardingOutputStream();
+
+        System.out.println(AllocationMeter.measure("register (Map<String, Object>)", WARMUP, ITERATIONS, () -> {
+            Map<String, Object> data = new HashMap<>();
+            data.put("userId", 12345L);
+            data.put("username", "testuser");
+            data.put("email", "test@example.com");
+            data.put("registeredAt", "2026-10-19");
+            data.put("token", TOKEN);
+            data.put("refreshToken", REFRESH_TOKEN);
+            write(mapper, sink, new LegacyAuthResponse(true, "Користувача успішно зареєстровано", data));
+        }));
+        System.out.println(AllocationMeter.measure("register (typed)", WARMUP, ITERATIONS, () -> write(mapper, sink,
+                new AuthResponse(true, "Користувача успішно зареєстровано",
+                        new RegistrationData(12345L, "testuser", "test@example.com", "2026-10-19", TOKEN, REFRESH_TOKEN)))));
+
+        System.out.println(AllocationMeter.measure("login (Map<String, Object>)", WARMUP, ITERATIONS, () -> {
+            Map<String, Object> data = new HashMap<>();
+            data.put("token", TOKEN);
+            data.put("refreshToken", REFRESH_TOKEN);
+            data.put("username", "testuser");
+            data.put("expiresIn", 900);
+            write(mapper, sink, new LegacyAuthResponse(true, "Авторизація успішна", data));
+        }));
+        System.out.println(AllocationMeter.measure("login (typed)", WARMUP, ITERATIONS, () -> write(mapper, sink,
+                new AuthResponse(true, "Авторизація успішна", new LoginData(TOKEN, REFRESH_TOKEN, "testuser", 900)))));
+
+        System.out.println(AllocationMeter.measure("refresh (Map<String, Object>)", WARMUP, ITERATIONS, () -> {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "Токен успішно оновлено");
+            response.put("token", TOKEN);
+            response.put("refreshToken", REFRESH_TOKEN);
+            response.put("expiresIn", 900);
+            write(mapper, sink, response);
+        }));
+        System.out.println(AllocationMeter.measure("refresh (typed)", WARMUP, ITERATIONS, () -> write(mapper, sink,
+                new TokenOperationResponse(true, "Токен успішно оновлено", new TokenPair(TOKEN, REFRESH_TOKEN, 900)))));
+
+        System.out.println(AllocationMeter.measure("invalidate (Map<String, Object>)", WARMUP, ITERATIONS, () -> {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "Токен успішно інвалідовано");
+            write(mapper, sink, response);
+        }));
+        System.out.println(AllocationMeter.measure("invalidate (typed)", WARMUP, ITERATIONS, () -> write(mapper, sink,
+                TokenOperationResponse.success("Токен успішно інвалідовано"))));
+    }
+
+    private static void write(ObjectMapper mapper, OutputStream sink, Object value) {
+        try {
+            mapper.writeValue(sink, value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class DiscardingOutputStream extends OutputStream {
+
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    }
+
+    public static class LegacyAuthResponse {
+        private final boolean success;
+        private final String message;
+        private final Object data;
+
+        public LegacyAuthResponse(boolean success, String message, Object data) {
+            this.success = success;
+            this.message = message;
+            this.data = data;
+        }
+
+        public boolean isSuccess() {
+            return success;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public Object getData() {
+            return data;
+        }
+    }
+}
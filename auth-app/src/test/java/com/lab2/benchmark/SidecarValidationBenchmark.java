@@ -0,0 +1,217 @@
+package com.lab2.benchmark;
+
+import com.lab2.config.AuthApplication;
+import com.lab2.service.TokenService;
+import com.lab2.sidecar.SidecarProtocol;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.StandardProtocolFamily;
+import java.net.URI;
+import java.net.UnixDomainSocketAddress;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Обидва шляхи лише перевіряють токен: HTTP — GET /api/auth/token/validate (фільтр автентифікації, MVC, Jackson),
+// UDS — той самий validateToken через бінарний протокол. Обидва отримують однакові набори токенів.
+public class SidecarValidationBenchmark {
+
+    private static final int LATENCY_REQUESTS = 5_000;
+    private static final int THROUGHPUT_REQUESTS = 40_000;
+    private static final int CLIENTS = 8;
+    private static final int PIPELINE_DEPTH = 32;
+
+    public static void main(String[] args) throws Exception {
+        Path socket = Files.createTempDirectory("auth-sidecar").resolve("validate.sock");
+        ConfigurableApplicationContext context = SpringApplication.run(AuthApplication.class,
+                "--server.port=0",
+                "--warmup.enabled=false",
+                "--audit.enabled=false",
+                "--logging.level.com.lab2=WARN",
+                "--limits.token-validation.initial=1000",
+                "--limits.token-validation.max=1000",
+                "--revocations.feed.key=benchmark",
+                "--sidecar.uds.path=" + socket);
+        try {
+            TokenService tokenService = context.getBean(TokenService.class);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI validate = URI.create("http://localhost:" + port + "/api/auth/token/validate");
+            HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+            String[] latencyTokens = tokens(tokenService, LATENCY_REQUESTS);
+            String[] throughputTokens = tokens(tokenService, THROUGHPUT_REQUESTS);
+
+            httpLatency(http, validate, latencyTokens);
+            udsLatency(socket, latencyTokens);
+            System.out.println(httpLatency(http, validate, latencyTokens));
+            System.out.println(udsLatency(socket, latencyTokens));
+            System.out.println(httpThroughput(http, validate, throughputTokens));
+            System.out.println(udsThroughput(socket, throughputTokens));
+        } finally {
+            context.close();
+        }
+    }
+
+    private static String[] tokens(TokenService tokenService, int count) {
+        String[] tokens = new String[count];
+        for (int i = 0; i < count; i++) {
+            tokens[i] = tokenService.generateToken("bench" + i, "bench" + i + "@example.com", Map.of("userId", (long) i));
+        }
+        return tokens;
+    }
+
+    private static Result httpLatency(HttpClient http, URI uri, String[] tokens) throws Exception {
+        long[] latencies = new long[tokens.length];
+        long started = System.nanoTime();
+        for (int i = 0; i < tokens.length; i++) {
+            long requestStarted = System.nanoTime();
+            get(http, uri, tokens[i]);
+            latencies[i] = System.nanoTime() - requestStarted;
+        }
+        return new Result("HTTP, 1 клієнт", tokens.length, System.nanoTime() - started, latencies);
+    }
+
+    private static Result udsLatency(Path socket, String[] tokens) throws IOException {
+        long[] latencies = new long[tokens.length];
+        ByteBuffer request = ByteBuffer.allocate(8 * 1024);
+        ByteBuffer response = ByteBuffer.allocate(8 * 1024);
+        long started = System.nanoTime();
+        try (SocketChannel channel = connect(socket)) {
+            for (int i = 0; i < tokens.length; i++) {
+                long requestStarted = System.nanoTime();
+                request.clear();
+                SidecarProtocol.writeRequest(request, tokens[i]);
+                write(channel, request.flip());
+                response.clear();
+                readValid(channel, response, 1);
+                latencies[i] = System.nanoTime() - requestStarted;
+            }
+        }
+        return new Result("UDS, 1 з'єднання без конвеєра", tokens.length, System.nanoTime() - started, latencies);
+    }
+
+    private static Result httpThroughput(HttpClient http, URI uri, String[] tokens) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+        try {
+            long started = System.nanoTime();
+            Future<?>[] clients = new Future<?>[CLIENTS];
+            for (int client = 0; client < CLIENTS; client++) {
+                int first = client;
+                clients[client] = executor.submit(() -> {
+                    for (int i = first; i < tokens.length; i += CLIENTS) {
+                        get(http, uri, tokens[i]);
+                    }
+                    return null;
+                });
+            }
+            for (Future<?> client : clients) {
+                client.get();
+            }
+            return new Result("HTTP, " + CLIENTS + " клієнтів", tokens.length, System.nanoTime() - started, null);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Result udsThroughput(Path socket, String[] tokens) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+        try {
+            long started = System.nanoTime();
+            Future<?>[] clients = new Future<?>[CLIENTS];
+            for (int client = 0; client < CLIENTS; client++) {
+                int first = client;
+                clients[client] = executor.submit(() -> {
+                    ByteBuffer request = ByteBuffer.allocate(PIPELINE_DEPTH * 8 * 1024);
+                    ByteBuffer response = ByteBuffer.allocate(PIPELINE_DEPTH * 8 * 1024);
+                    try (SocketChannel channel = connect(socket)) {
+                        int i = first;
+                        while (i < tokens.length) {
+                            request.clear();
+                            int batch = 0;
+                            for (; batch < PIPELINE_DEPTH && i < tokens.length; batch++, i += CLIENTS) {
+                                SidecarProtocol.writeRequest(request, tokens[i]);
+                            }
+                            write(channel, request.flip());
+                            response.clear();
+                            readValid(channel, response, batch);
+                        }
+                    }
+                    return null;
+                });
+            }
+            for (Future<?> client : clients) {
+                client.get();
+            }
+            return new Result("UDS, " + CLIENTS + " з'єднань × " + PIPELINE_DEPTH + " у конвеєрі", tokens.length,
+                    System.nanoTime() - started, null);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void get(HttpClient http, URI uri, String token) throws Exception {
+        HttpResponse<byte[]> response = http.send(HttpRequest.newBuilder(uri)
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build(), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Неочікуваний статус HTTP: " + response.statusCode());
+        }
+    }
+
+    private static SocketChannel connect(Path socket) throws IOException {
+        SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX);
+        channel.connect(UnixDomainSocketAddress.of(socket));
+        return channel;
+    }
+
+    private static void write(SocketChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static void readValid(SocketChannel channel, ByteBuffer buffer, int responses) throws IOException {
+        int position = 0;
+        while (responses > 0) {
+            while (buffer.position() - position < SidecarProtocol.HEADER_BYTES
+                    || buffer.position() - position < SidecarProtocol.HEADER_BYTES + buffer.getInt(position)) {
+                if (channel.read(buffer) < 0) {
+                    throw new UncheckedIOException(new IOException("Сервер закрив з'єднання"));
+                }
+            }
+            if (buffer.get(position + SidecarProtocol.HEADER_BYTES) != SidecarProtocol.STATUS_VALID) {
+                throw new IllegalStateException("Токен не пройшов перевірку через sidecar-сокет");
+            }
+            position += SidecarProtocol.HEADER_BYTES + buffer.getInt(position);
+            responses--;
+        }
+    }
+
+    private record Result(String name, int requests, long elapsedNanos, long[] latencies) {
+
+        @Override
+        public String toString() {
+            String throughput = String.format("%-36s %10.0f зап/с", name, requests * 1e9 / elapsedNanos);
+            if (latencies == null) {
+                return throughput;
+            }
+            long[] sorted = latencies.clone();
+            Arrays.sort(sorted);
+            return String.format("%s   p50 %7.1f мкс   p99 %7.1f мкс", throughput,
+                    sorted[sorted.length / 2] / 1e3, sorted[sorted.length * 99 / 100] / 1e3);
+        }
+    }
+}
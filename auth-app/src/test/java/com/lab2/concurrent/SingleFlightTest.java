@@ -0,0 +1,186 @@
+package com.lab2.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private static final int WAITERS = 8;
+
+    @Test
+    void testConcurrentCallsShareOneLoad() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>(16);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Thread> waiters = new ArrayList<>();
+        List<String> results = new ArrayList<>();
+        Thread leader = thread(() -> record(results, flight.execute("token", () -> {
+            loads.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "claims";
+        })));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < WAITERS; i++) {
+            waiters.add(thread(() -> record(results, flight.execute("token", () -> {
+                loads.incrementAndGet();
+                return "duplicate";
+            }))));
+        }
+        awaitParked(waiters);
+        release.countDown();
+        join(leader);
+        waiters.forEach(SingleFlightTest::join);
+
+        assertEquals(1, loads.get(), "Паралельні виклики з тим самим ключем повинні об'єднуватися");
+        assertEquals(WAITERS + 1, results.size());
+        assertTrue(results.stream().allMatch("claims"::equals));
+        assertEquals(0, flight.inFlightCount());
+    }
+
+    @Test
+    void testLoaderExceptionReachesAllWaitersAndKeyIsRemoved() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>(16);
+        IllegalStateException failure = new IllegalStateException("Невірний токен");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Throwable> errors = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        threads.add(thread(() -> capture(errors, () -> flight.execute("token", () -> {
+            started.countDown();
+            await(release);
+            throw failure;
+        }))));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        List<Thread> waiters = new ArrayList<>();
+        for (int i = 0; i < WAITERS; i++) {
+            waiters.add(thread(() -> capture(errors, () -> flight.execute("token", () -> "unused"))));
+        }
+        threads.addAll(waiters);
+        awaitParked(waiters);
+        release.countDown();
+        threads.forEach(SingleFlightTest::join);
+
+        assertEquals(WAITERS + 1, errors.size());
+        assertTrue(errors.stream().allMatch(error -> error == failure), "Кожен очікувач повинен отримати виняток лідера");
+        assertEquals(0, flight.inFlightCount(), "Ключ не повинен лишатися в мапі після винятку");
+        assertEquals("fresh", flight.execute("token", () -> "fresh"), "Наступний виклик повинен завантажувати заново");
+    }
+
+    @Test
+    void testBoundIsNeverExceededUnderContention() throws Exception {
+        int bound = 4;
+        SingleFlight<Integer, Integer> flight = new SingleFlight<>(bound);
+        AtomicInteger maxObserved = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 16; t++) {
+                int offset = t * 100_000;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 2_000; i++) {
+                        int key = offset + i;
+                        assertEquals(key, flight.execute(key, () -> {
+                            maxObserved.accumulateAndGet(flight.inFlightCount(), Math::max);
+                            Thread.onSpinWait();
+                            return key;
+                        }));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(maxObserved.get() <= bound, "У мапі не повинно бути більше " + bound + " ключів: " + maxObserved.get());
+        assertEquals(0, flight.inFlightCount());
+    }
+
+    @Test
+    void testFullMapStillServesCallers() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>(1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread leader = thread(() -> flight.execute("first", () -> {
+            started.countDown();
+            await(release);
+            return "first";
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertEquals("second", flight.execute("second", () -> "second"), "Без місця запит виконується без об'єднання");
+        assertEquals(1, flight.inFlightCount());
+
+        release.countDown();
+        join(leader);
+        assertEquals(0, flight.inFlightCount());
+    }
+
+    private static Thread thread(Runnable body) {
+        Thread thread = new Thread(body);
+        thread.start();
+        return thread;
+    }
+
+    // Очікувачі паркуються в CompletableFuture.join; лише після цього лідера можна відпускати
+    private static void awaitParked(List<Thread> threads) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        for (Thread thread : threads) {
+            while (thread.getState() != Thread.State.WAITING) {
+                assertTrue(System.nanoTime() < deadline, "Потік не дочекався лідера");
+                Thread.sleep(1);
+            }
+        }
+    }
+
+    private static void record(List<String> results, String value) {
+        synchronized (results) {
+            results.add(value);
+        }
+    }
+
+    private static void capture(List<Throwable> errors, Runnable call) {
+        try {
+            call.run();
+        } catch (RuntimeException e) {
+            synchronized (errors) {
+                errors.add(e);
+            }
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void join(Thread thread) {
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        assertFalse(thread.isAlive());
+    }
+}
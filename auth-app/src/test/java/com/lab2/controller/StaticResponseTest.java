@@ -0,0 +1,65 @@
+package com.lab2.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StaticResponseTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testSuccessfulResponseCarriesEtagAndPublicCaching() {
+        StaticResponse response = StaticResponse.json(objectMapper, HttpStatus.OK, Map.of("status", "running"));
+
+        ResponseEntity<byte[]> entity = response.toResponseEntity(null);
+
+        assertEquals(HttpStatus.OK, entity.getStatusCode());
+        assertEquals(response.getEtag(), entity.getHeaders().getETag());
+        assertTrue(entity.getHeaders().getCacheControl().contains("public"));
+        assertArrayEquals("{\"status\":\"running\"}".getBytes(), entity.getBody());
+    }
+
+    @Test
+    void testEtagIsStableAndDependsOnBody() {
+        StaticResponse first = StaticResponse.json(objectMapper, HttpStatus.OK, Map.of("status", "running"));
+        StaticResponse same = StaticResponse.json(objectMapper, HttpStatus.OK, Map.of("status", "running"));
+        StaticResponse other = StaticResponse.json(objectMapper, HttpStatus.OK, Map.of("status", "stopped"));
+
+        assertEquals(first.getEtag(), same.getEtag());
+        assertNotEquals(first.getEtag(), other.getEtag());
+        assertTrue(first.getEtag().startsWith("\"") && first.getEtag().endsWith("\""), "ETag повинен бути в лапках");
+    }
+
+    @Test
+    void testMatchingIfNoneMatchReturnsNotModified() {
+        StaticResponse response = StaticResponse.json(objectMapper, HttpStatus.OK, Map.of("status", "running"));
+        String etag = response.getEtag();
+
+        for (String ifNoneMatch : new String[]{etag, "W/" + etag, "\"other\", " + etag, "*"}) {
+            ResponseEntity<byte[]> entity = response.toResponseEntity(ifNoneMatch);
+            assertEquals(HttpStatus.NOT_MODIFIED, entity.getStatusCode(), ifNoneMatch);
+            assertEquals(etag, entity.getHeaders().getETag());
+            assertNull(entity.getBody());
+        }
+        assertEquals(HttpStatus.OK, response.toResponseEntity("\"other\"").getStatusCode());
+    }
+
+    @Test
+    void testErrorResponseIsNeverStoredOrRevalidated() {
+        StaticResponse response = StaticResponse.json(objectMapper, HttpStatus.METHOD_NOT_ALLOWED, Map.of("error", "GET"));
+
+        ResponseEntity<byte[]> entity = response.toResponseEntity("*");
+
+        assertEquals(HttpStatus.METHOD_NOT_ALLOWED, entity.getStatusCode());
+        assertEquals("no-store", entity.getHeaders().getCacheControl());
+        assertNull(entity.getHeaders().getFirst(HttpHeaders.ETAG));
+        assertNotNull(entity.getBody());
+    }
+}
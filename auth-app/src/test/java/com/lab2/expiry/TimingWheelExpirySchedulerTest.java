@@ -0,0 +1,86 @@
+package com.lab2.expiry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelExpirySchedulerTest {
+
+    private TimingWheelExpiryScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new TimingWheelExpiryScheduler(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.destroy();
+    }
+
+    @Test
+    void testExpiresItemsNoEarlierThanDeadline() throws InterruptedException {
+        Map<Integer, Long> firedAt = new ConcurrentHashMap<>();
+        ExpiryListener<Integer> listener = items -> items.forEach(item -> firedAt.put(item, System.currentTimeMillis()));
+        long now = System.currentTimeMillis();
+        long[] delays = {0, 5, 63, 64, 65, 200, 4100};
+
+        for (int i = 0; i < delays.length; i++) {
+            scheduler.schedule(now + delays[i], i, listener);
+        }
+
+        awaitCondition(() -> firedAt.size() == delays.length, 10_000);
+        for (int i = 0; i < delays.length; i++) {
+            assertTrue(firedAt.get(i) >= now + delays[i], "Елемент " + i + " не повинен завершуватися раніше строку");
+        }
+        assertEquals(0, scheduler.scheduledCount(), "Після спрацювання колесо повинно бути порожнім");
+    }
+
+    @Test
+    void testDeliversSameTickItemsAsOneBatch() throws InterruptedException {
+        List<List<String>> batches = new CopyOnWriteArrayList<>();
+        ExpiryListener<String> listener = batches::add;
+        long deadline = System.currentTimeMillis() + 50;
+
+        for (int i = 0; i < 1000; i++) {
+            scheduler.schedule(deadline, "item-" + i, listener);
+        }
+
+        awaitCondition(() -> batches.stream().mapToInt(List::size).sum() == 1000, 5_000);
+        assertEquals(1, batches.size(), "Елементи одного тіку повинні надходити одним пакетом");
+    }
+
+    @Test
+    void testCancelledItemsAreNotDelivered() throws InterruptedException {
+        Set<String> fired = ConcurrentHashMap.newKeySet();
+        ExpiryListener<String> listener = fired::addAll;
+        long deadline = System.currentTimeMillis() + 30;
+
+        ExpiryHandle cancelled = scheduler.schedule(deadline, "cancelled", listener);
+        scheduler.schedule(deadline, "kept", listener);
+        assertTrue(cancelled.cancel());
+
+        awaitCondition(() -> fired.contains("kept"), 5_000);
+        assertFalse(fired.contains("cancelled"), "Скасований елемент не повинен спрацьовувати");
+    }
+
+    private static void awaitCondition(java.util.function.BooleanSupplier condition, long timeoutMillis)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Умову не виконано за " + timeoutMillis + " мс");
+            }
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.lab2.filter;
+
+import com.lab2.limit.AimdLimiter;
+import com.lab2.limit.LimitGroup;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ConcurrencyLimitFilterTest {
+
+    private ConcurrencyLimitFilter filter;
+    private AimdLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        @SuppressWarnings("unchecked")
+        ObjectProvider<RequestMappingHandlerMapping> handlerMapping = mock(ObjectProvider.class);
+        when(handlerMapping.getObject()).thenReturn(RouteTableTest.handlerMapping());
+        filter = new ConcurrencyLimitFilter(handlerMapping, new SimpleMeterRegistry(),
+                20, 4, 120, 250, 10, 1, 10, 50, 7);
+        filter.afterSingletonsInstantiated();
+        limiter = filter.getLimiter(LimitGroup.TOKEN_VALIDATION);
+    }
+
+    @Test
+    void testSaturatedGroupIsShedWith503AndRetryAfter() throws Exception {
+        saturate();
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(RouteTableTest.request("POST", "/api/items"), response, chain);
+
+        assertNull(chain.getRequest(), "Відхилений запит не повинен доходити до обробника");
+        assertEquals(503, response.getStatus());
+        assertEquals("7", response.getHeader("Retry-After"));
+        assertTrue(response.getContentAsString().contains("Сервіс перевантажено"));
+        assertEquals(1, limiter.getShedCount());
+    }
+
+    @Test
+    void testAdmittedRequestReleasesItsPermit() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(RouteTableTest.request("POST", "/api/items"), new MockHttpServletResponse(), chain);
+
+        assertNotNull(chain.getRequest());
+        assertEquals(0, limiter.getInflight());
+    }
+
+    @Test
+    void testServerErrorCountsAsDrop() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain failing = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse servletResponse) {
+                servletResponse.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            }
+        });
+
+        filter.doFilter(RouteTableTest.request("POST", "/api/items"), response, failing);
+
+        assertEquals(0, limiter.getInflight());
+        assertEquals(9, limiter.getLimit(), "5xx повинна зменшувати ліміт мультиплікативно");
+    }
+
+    @Test
+    void testUnlimitedRoutePassesThrough() throws Exception {
+        saturate();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(RouteTableTest.request("GET", "/api/public"), new MockHttpServletResponse(), chain);
+
+        assertNotNull(chain.getRequest(), "Маршрут без обмежувача не залежить від його заповнення");
+        assertEquals(0, limiter.getShedCount());
+    }
+
+    private void saturate() {
+        while (limiter.getInflight() < limiter.getLimit()) {
+            assertTrue(limiter.tryAcquire());
+        }
+    }
+}
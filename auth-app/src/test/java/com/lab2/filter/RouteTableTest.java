@@ -0,0 +1,108 @@
+package com.lab2.filter;
+
+import com.lab2.annotation.RequiresToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RouteTableTest {
+
+    private RouteTable<Boolean> routes;
+
+    @BeforeEach
+    void setUp() {
+        routes = RouteTable.build(handlerMapping(),
+                method -> method.hasMethodAnnotation(RequiresToken.class) ? Boolean.TRUE : null);
+    }
+
+    @Test
+    void testLiteralRouteMatchesOnlyItsMethod() {
+        assertEquals(Boolean.TRUE, routes.lookup(request("POST", "/api/items")));
+        assertNull(routes.lookup(request("DELETE", "/api/items")), "Метод без маршруту не повинен бути захищеним");
+        assertNull(routes.lookup(request("POST", "/api/items/extra")));
+    }
+
+    @Test
+    void testHeadFallsBackToGet() {
+        assertEquals(Boolean.TRUE, routes.lookup(request("GET", "/api/profile")));
+        assertEquals(Boolean.TRUE, routes.lookup(request("HEAD", "/api/profile")));
+    }
+
+    @Test
+    void testUnannotatedRoutesAreNotClassified() {
+        assertNull(routes.lookup(request("GET", "/api/public")));
+        assertNull(routes.lookup(request("GET", "/unknown")));
+    }
+
+    @Test
+    void testTemplatedRouteUsesPathPattern() {
+        assertEquals(Boolean.TRUE, routes.lookup(request("GET", "/api/items/42")));
+        assertNull(routes.lookup(request("GET", "/api/items/42/history")));
+    }
+
+    @Test
+    void testNonNormalizedPathsMatchLikeMvc() {
+        assertEquals(Boolean.TRUE, routes.lookup(request("POST", "/api/items;jsessionid=abc")));
+        assertEquals(Boolean.TRUE, routes.lookup(request("POST", "/api/%69tems")));
+    }
+
+    @Test
+    void testContextPathIsStripped() {
+        MockHttpServletRequest request = request("POST", "/auth/api/items");
+        request.setContextPath("/auth");
+
+        assertEquals(Boolean.TRUE, routes.lookup(request));
+    }
+
+    static RequestMappingHandlerMapping handlerMapping() {
+        RequestMappingInfo.BuilderConfiguration options = new RequestMappingInfo.BuilderConfiguration();
+        options.setPatternParser(new PathPatternParser());
+        RequestMappingHandlerMapping mapping = new RequestMappingHandlerMapping();
+        TestController controller = new TestController();
+        try {
+            mapping.registerMapping(RequestMappingInfo.paths("/api/items").methods(RequestMethod.POST)
+                    .options(options).build(), controller, TestController.class.getMethod("create"));
+            mapping.registerMapping(RequestMappingInfo.paths("/api/items/{id}").methods(RequestMethod.GET)
+                    .options(options).build(), controller, TestController.class.getMethod("item"));
+            mapping.registerMapping(RequestMappingInfo.paths("/api/profile").methods(RequestMethod.GET)
+                    .options(options).build(), controller, TestController.class.getMethod("profile"));
+            mapping.registerMapping(RequestMappingInfo.paths("/api/public").methods(RequestMethod.GET)
+                    .options(options).build(), controller, TestController.class.getMethod("open"));
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+        return mapping;
+    }
+
+    static MockHttpServletRequest request(String method, String uri) {
+        return new MockHttpServletRequest(method, uri);
+    }
+
+    static class TestController {
+
+        @RequiresToken
+        public String create() {
+            return "created";
+        }
+
+        @RequiresToken
+        public String item() {
+            return "item";
+        }
+
+        @RequiresToken
+        public String profile() {
+            return "profile";
+        }
+
+        public String open() {
+            return "open";
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.lab2.filter;
+
+import com.lab2.model.TokenData;
+import com.lab2.model.TokenPrecheck;
+import com.lab2.service.TokenService;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class TokenAuthenticationFilterTest {
+
+    private TokenService tokenService;
+    private TokenAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        tokenService = mock(TokenService.class);
+        @SuppressWarnings("unchecked")
+        ObjectProvider<RequestMappingHandlerMapping> handlerMapping = mock(ObjectProvider.class);
+        when(handlerMapping.getObject()).thenReturn(RouteTableTest.handlerMapping());
+        filter = new TokenAuthenticationFilter(tokenService, handlerMapping);
+        filter.afterSingletonsInstantiated();
+    }
+
+    @Test
+    void testUnprotectedRoutePassesThrough() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = filter(RouteTableTest.request("GET", "/api/public"), chain);
+
+        assertNotNull(chain.getRequest(), "Незахищений маршрут повинен дійти до MVC");
+        assertEquals(200, response.getStatus());
+        verifyNoInteractions(tokenService);
+    }
+
+    @Test
+    void testMissingAuthorizationHeaderIsRejected() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = filter(RouteTableTest.request("POST", "/api/items"), chain);
+
+        assertNull(chain.getRequest());
+        assertEquals(401, response.getStatus());
+        assertTrue(response.getContentAsString().contains("Необхідна авторизація"));
+        verifyNoInteractions(tokenService);
+    }
+
+    @Test
+    void testMalformedAuthorizationHeaderIsRejected() throws Exception {
+        MockHttpServletRequest request = RouteTableTest.request("POST", "/api/items");
+        request.addHeader("Authorization", "Basic dXNlcjpwYXNz");
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = filter(request, chain);
+
+        assertNull(chain.getRequest());
+        assertEquals(401, response.getStatus());
+        verifyNoInteractions(tokenService);
+    }
+
+    @Test
+    void testPrecheckRejectSkipsValidation() throws Exception {
+        when(tokenService.precheck("expired")).thenReturn(TokenPrecheck.EXPIRED);
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = filter(bearer("expired"), chain);
+
+        assertNull(chain.getRequest());
+        assertEquals(401, response.getStatus());
+        assertTrue(response.getContentAsString().contains(TokenPrecheck.EXPIRED.getMessage()));
+        verify(tokenService, never()).validateToken(anyString(), any());
+    }
+
+    @Test
+    void testFailedValidationIsRejected() throws Exception {
+        when(tokenService.precheck("revoked")).thenReturn(TokenPrecheck.PASSED);
+        when(tokenService.validateToken("revoked", TokenPrecheck.PASSED)).thenThrow(new IllegalStateException("Токен було інвалідовано"));
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = filter(bearer("revoked"), chain);
+
+        assertNull(chain.getRequest());
+        assertEquals(401, response.getStatus());
+        assertTrue(response.getContentAsString().contains("Невалідний токен"));
+        assertFalse(response.getContentAsString().contains("інвалідовано"), "Текст винятку не повинен потрапляти у відповідь");
+    }
+
+    @Test
+    void testValidTokenReachesHandlerWithAttributes() throws Exception {
+        TokenData tokenData = new TokenData("alice", "alice@example.com", "Test Auth Application",
+                null, null, Map.of());
+        when(tokenService.precheck("good")).thenReturn(TokenPrecheck.PASSED);
+        when(tokenService.validateToken("good", TokenPrecheck.PASSED)).thenReturn(tokenData);
+        MockFilterChain chain = new MockFilterChain();
+        filter(bearer("good"), chain);
+
+        assertNotNull(chain.getRequest());
+        assertSame(tokenData, chain.getRequest().getAttribute("tokenData"));
+        assertEquals("alice", chain.getRequest().getAttribute("username"));
+        assertEquals("alice@example.com", chain.getRequest().getAttribute("email"));
+        verify(tokenService, times(1)).precheck("good");
+        verify(tokenService, never()).validateToken(anyString());
+    }
+
+    @Test
+    void testNonCanonicalTokenIsValidatedWithItsPrecheck() throws Exception {
+        TokenData tokenData = new TokenData("alice", "alice@example.com", "Test Auth Application",
+                null, null, Map.of());
+        when(tokenService.precheck("reordered")).thenReturn(TokenPrecheck.NON_CANONICAL);
+        when(tokenService.validateToken("reordered", TokenPrecheck.NON_CANONICAL)).thenReturn(tokenData);
+        MockFilterChain chain = new MockFilterChain();
+        filter(bearer("reordered"), chain);
+
+        assertSame(tokenData, chain.getRequest().getAttribute("tokenData"),
+                "Нестандартна форма повинна дійти до повної перевірки, а не відхилятися фільтром");
+    }
+
+    private MockHttpServletResponse filter(MockHttpServletRequest request, MockFilterChain chain)
+            throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private static MockHttpServletRequest bearer(String token) {
+        MockHttpServletRequest request = RouteTableTest.request("POST", "/api/items");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
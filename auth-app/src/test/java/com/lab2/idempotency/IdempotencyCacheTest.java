@@ -0,0 +1,151 @@
+package com.lab2.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lab2.expiry.ExpiryHandle;
+import com.lab2.expiry.ExpiryListener;
+import com.lab2.expiry.ExpiryScheduler;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyCacheTest {
+
+    private final ManualExpiryScheduler scheduler = new ManualExpiryScheduler();
+    private final IdempotencyCache cache = new IdempotencyCache(scheduler, new ObjectMapper(), 100, 600);
+
+    @Test
+    void testReplaysCompletedResponseUntilItExpires() {
+        AtomicInteger calls = new AtomicInteger();
+        Map<String, String> body = Map.of("username", "alice", "password", "Secret1!");
+
+        ResponseEntity<String> first = cache.execute("login", "10.0.0.1", "key-1", body,
+                () -> ResponseEntity.ok("token-" + calls.incrementAndGet()));
+        ResponseEntity<String> retry = cache.execute("login", "10.0.0.1", "key-1", body,
+                () -> ResponseEntity.ok("token-" + calls.incrementAndGet()));
+
+        assertEquals("token-1", first.getBody());
+        assertEquals("token-1", retry.getBody());
+        assertEquals("true", retry.getHeaders().getFirst(IdempotencyCache.REPLAYED_HEADER));
+        assertNull(first.getHeaders().getFirst(IdempotencyCache.REPLAYED_HEADER));
+
+        scheduler.expireAll();
+        ResponseEntity<String> afterExpiry = cache.execute("login", "10.0.0.1", "key-1", body,
+                () -> ResponseEntity.ok("token-" + calls.incrementAndGet()));
+        assertEquals("token-2", afterExpiry.getBody());
+    }
+
+    @Test
+    void testScopesKeysAndRejectsDifferentBody() {
+        Map<String, String> body = Map.of("username", "alice", "password", "Secret1!");
+        cache.execute("login", "10.0.0.1", "key-1", body, () -> ResponseEntity.ok("login"));
+
+        assertEquals("register", cache.execute("register", "10.0.0.1", "key-1", body,
+                () -> ResponseEntity.status(HttpStatus.CREATED).body("register")).getBody());
+        assertEquals("other", cache.execute("login", "10.0.0.2", "key-1", body,
+                () -> ResponseEntity.ok("other")).getBody(), "Інший клієнт не отримує чужу відповідь");
+        assertThrows(IdempotencyCache.IdempotencyKeyReuseException.class, () -> cache.execute("login", "10.0.0.1", "key-1",
+                Map.of("username", "alice", "password", "Other1!"), () -> ResponseEntity.ok("other")));
+        assertThrows(IdempotencyCache.InvalidIdempotencyKeyException.class,
+                () -> cache.execute("login", "10.0.0.1", " ", body, () -> ResponseEntity.ok("blank")));
+    }
+
+    @Test
+    void testConcurrentDuplicatesWaitForInFlightRequest() throws Exception {
+        int threads = 8;
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Map<String, String> body = Map.of("username", "alice");
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<ResponseEntity<String>>> responses = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                responses.add(executor.submit(() -> cache.execute("register", "10.0.0.1", "key-1", body, () -> {
+                    calls.incrementAndGet();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return ResponseEntity.status(HttpStatus.CREATED).body("created");
+                })));
+            }
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<ResponseEntity<String>> response : responses) {
+                assertEquals(HttpStatus.CREATED, response.get(5, TimeUnit.SECONDS).getStatusCode());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, calls.get(), "Дублікати не повинні оброблятися повторно");
+    }
+
+    @Test
+    void testCapacityBoundHoldsUnderConcurrentStores() throws Exception {
+        int capacity = 4;
+        int threads = 16;
+        IdempotencyCache bounded = new IdempotencyCache(scheduler, new ObjectMapper(), capacity, 600);
+        Map<String, String> body = Map.of("username", "alice");
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<ResponseEntity<String>>> responses = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                String key = "key-" + i;
+                responses.add(executor.submit(() -> {
+                    start.await(5, TimeUnit.SECONDS);
+                    return bounded.execute("login", "10.0.0.1", key, body, () -> ResponseEntity.ok(key));
+                }));
+            }
+            start.countDown();
+            for (Future<ResponseEntity<String>> response : responses) {
+                response.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int replayed = 0;
+        for (int i = 0; i < threads; i++) {
+            ResponseEntity<String> retry = bounded.execute("login", "10.0.0.1", "key-" + i, body,
+                    () -> ResponseEntity.ok("fresh"));
+            if (retry.getHeaders().containsKey(IdempotencyCache.REPLAYED_HEADER)) {
+                replayed++;
+            }
+        }
+        assertEquals(capacity, replayed, "Кеш не повинен зберігати більше відповідей, ніж дозволяє ємність");
+    }
+
+    private static final class ManualExpiryScheduler implements ExpiryScheduler {
+
+        private final List<Runnable> pending = new ArrayList<>();
+
+        @Override
+        public synchronized <T> ExpiryHandle schedule(long expiresAtMillis, T item, ExpiryListener<T> listener) {
+            pending.add(() -> listener.onExpired(List.of(item)));
+            return () -> false;
+        }
+
+        @Override
+        public synchronized long scheduledCount() {
+            return pending.size();
+        }
+
+        synchronized void expireAll() {
+            pending.forEach(Runnable::run);
+            pending.clear();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.lab2.limit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AimdLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+    @Test
+    void testInitialLimitIsClampedAndBoundsValidated() {
+        assertEquals(4, new AimdLimiter(1, 4, 10, 100).getLimit());
+        assertEquals(10, new AimdLimiter(50, 4, 10, 100).getLimit());
+        assertThrows(IllegalArgumentException.class, () -> new AimdLimiter(5, 0, 10, 100));
+        assertThrows(IllegalArgumentException.class, () -> new AimdLimiter(5, 11, 10, 100));
+    }
+
+    @Test
+    void testShedsAboveLimit() {
+        AimdLimiter limiter = new AimdLimiter(2, 1, 10, 100);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertEquals(2, limiter.getInflight());
+        assertEquals(1, limiter.getShedCount());
+
+        limiter.release(FAST, false);
+        assertTrue(limiter.tryAcquire(), "Звільнене місце повинно знову прийматися");
+    }
+
+    @Test
+    void testAdditiveIncreaseOnlyWhenUtilised() {
+        AimdLimiter limiter = new AimdLimiter(10, 1, 20, 100);
+
+        // Зайнято понад половину ліміту: кожне швидке завершення додає 1/limit, тож приблизно
+        // за limit таких завершень ліміт росте на одиницю
+        for (int i = 0; i < 11; i++) {
+            acquire(limiter, 6);
+            limiter.release(FAST, false);
+            releaseAll(limiter);
+        }
+        assertEquals(11, limiter.getLimit());
+
+        // Ліміт використано менше ніж наполовину: зростати нема підстав
+        for (int i = 0; i < 100; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.release(FAST, false);
+        }
+        assertEquals(11, limiter.getLimit());
+    }
+
+    @Test
+    void testMultiplicativeDecreaseOnSlowOrDroppedRequests() {
+        AimdLimiter limiter = new AimdLimiter(100, 1, 200, 100);
+
+        assertTrue(limiter.tryAcquire());
+        limiter.release(SLOW, false);
+        assertEquals(90, limiter.getLimit());
+
+        assertTrue(limiter.tryAcquire());
+        limiter.release(FAST, true);
+        assertEquals(81, limiter.getLimit());
+    }
+
+    @Test
+    void testLimitStaysWithinBounds() {
+        AimdLimiter limiter = new AimdLimiter(10, 4, 12, 100);
+        for (int i = 0; i < 100; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.release(SLOW, false);
+        }
+        assertEquals(4, limiter.getLimit());
+
+        for (int i = 0; i < 1000; i++) {
+            acquire(limiter, limiter.getLimit());
+            limiter.release(FAST, false);
+            releaseAll(limiter);
+        }
+        assertEquals(12, limiter.getLimit());
+
+        limiter.reset();
+        assertEquals(10, limiter.getLimit(), "Скидання повертає початковий ліміт");
+    }
+
+    private static void acquire(AimdLimiter limiter, int permits) {
+        for (int i = 0; i < permits; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+    }
+
+    // Затримка рівно на цільовому рівні не є сигналом перевантаження
+    private static void releaseAll(AimdLimiter limiter) {
+        while (limiter.getInflight() > 0) {
+            limiter.release(TimeUnit.MILLISECONDS.toNanos(100), false);
+        }
+    }
+}
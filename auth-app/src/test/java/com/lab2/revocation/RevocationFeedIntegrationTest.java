@@ -0,0 +1,195 @@
+package com.lab2.revocation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.lab2.config.AuthApplication;
+import com.lab2.controller.RevocationFeedController;
+import com.lab2.verifier.Base64Url;
+import com.lab2.verifier.RevocationFeedClient;
+import com.lab2.verifier.RevocationState;
+import com.lab2.verifier.TokenVerifier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = AuthApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "warmup.enabled=false",
+                "audit.enabled=false",
+                "revocations.feed.key=integration-feed-key"
+        })
+class RevocationFeedIntegrationTest {
+
+    private static final String PASSWORD = "Test123!@";
+    private static final String FEED_KEY = "integration-feed-key";
+    private static final String BASE64URL_ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${jwt.secret}")
+    private String secret;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    private RevocationState revocations;
+    private TokenVerifier verifier;
+    private RevocationFeedClient feed;
+
+    @BeforeEach
+    void setUp() {
+        revocations = new RevocationState();
+        verifier = new TokenVerifier(secret, revocations);
+        feed = new RevocationFeedClient(URI.create("http://localhost:" + port), revocations, FEED_KEY);
+    }
+
+    @AfterEach
+    void tearDown() {
+        feed.close();
+    }
+
+    @Test
+    void testEmbeddedVerifierAcceptsTokensIssuedByTheService() throws Exception {
+        String token = registerAndLogin("feed_user1");
+        feed.poll();
+
+        assertEquals("feed_user1", verifier.verify(token).getUsername());
+        assertEquals("Auth Application", verifier.verify(token).getApplicationName());
+    }
+
+    @Test
+    void testInvalidatedTokenIsRejectedAfterFeedPoll() throws Exception {
+        String token = registerAndLogin("feed_user2");
+        feed.poll();
+        assertTrue(verifier.isValid(token));
+
+        assertEquals(HttpStatus.OK, post("/api/auth/token/invalidate", token).getStatusCode());
+        assertTrue(verifier.isValid(token), "До опитування стрічки локальний стан ще не знає про відкликання");
+
+        feed.poll();
+        assertFalse(verifier.isValid(token));
+    }
+
+    @Test
+    void testRevokedTokenStaysRevokedWithOtherTrailingSignatureBits() throws Exception {
+        String token = registerAndLogin("feed_user5");
+        String variant = withTrailingSignatureBits(token);
+        assertNotEquals(token, variant);
+        feed.poll();
+
+        assertEquals(HttpStatus.OK, post("/api/auth/token/invalidate", token).getStatusCode());
+        feed.poll();
+
+        assertFalse(verifier.isValid(token));
+        assertFalse(verifier.isValid(variant), "Той самий підпис з іншими невикористаними бітами — той самий токен");
+        assertEquals(HttpStatus.UNAUTHORIZED, get("/api/auth/token/validate", variant).getStatusCode());
+    }
+
+    @Test
+    void testInvalidateAllRevokesOlderTokensButNotNewOnes() throws Exception {
+        String first = registerAndLogin("feed_user3");
+        String second = login("feed_user3");
+        feed.poll();
+
+        assertEquals(HttpStatus.OK, post("/api/auth/token/invalidate-all", second).getStatusCode());
+        feed.poll();
+        String third = login("feed_user3");
+
+        assertFalse(verifier.isValid(first));
+        assertFalse(verifier.isValid(second));
+        assertTrue(verifier.isValid(third));
+    }
+
+    @Test
+    void testValidateEndpointChangesNoState() throws Exception {
+        String token = registerAndLogin("feed_user4");
+        feed.poll();
+        int revoked = revocations.revokedTokenCount();
+
+        assertEquals(HttpStatus.OK, get("/api/auth/token/validate", token).getStatusCode());
+        assertEquals(HttpStatus.OK, get("/api/auth/token/validate", token).getStatusCode());
+        feed.poll();
+        assertEquals(revoked, revocations.revokedTokenCount(), "Перевірка токену не повинна додавати подій у стрічку");
+        assertTrue(verifier.isValid(token));
+
+        assertEquals(HttpStatus.OK, post("/api/auth/token/invalidate", token).getStatusCode());
+        assertEquals(HttpStatus.UNAUTHORIZED, get("/api/auth/token/validate", token).getStatusCode());
+    }
+
+    @Test
+    void testFeedRequiresConfiguredKey() throws Exception {
+        ResponseEntity<String> response = restTemplate.getForEntity("/api/auth/revocations?since=0", String.class);
+        assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
+
+        RevocationFeedClient unauthorized = new RevocationFeedClient(URI.create("http://localhost:" + port),
+                new RevocationState());
+        assertThrows(IOException.class, unauthorized::poll);
+    }
+
+    @Test
+    void testFeedEndpointIsRegisteredOnlyWithKey() {
+        ApplicationContextRunner runner = new ApplicationContextRunner()
+                .withBean(RevocationLog.class)
+                .withUserConfiguration(RevocationFeedController.class);
+        runner.run(context -> assertTrue(context.getBeansOfType(RevocationFeedController.class).isEmpty(),
+                "Без ключа стрічка не повинна реєструватися"));
+        runner.withPropertyValues("revocations.feed.key=" + FEED_KEY)
+                .run(context -> assertEquals(1, context.getBeansOfType(RevocationFeedController.class).size()));
+        assertThrows(IllegalArgumentException.class, () -> new RevocationFeedController(new RevocationLog(), " ", 1000));
+    }
+
+    private String registerAndLogin(String username) {
+        Map<String, Object> registration = Map.of(
+                "username", username,
+                "password", PASSWORD,
+                "email", username + "@example.com",
+                "birthday", "1990-01-01");
+        ResponseEntity<JsonNode> response = restTemplate.postForEntity("/api/auth/register", registration, JsonNode.class);
+        assertTrue(response.getStatusCode().is2xxSuccessful(), "Реєстрація: " + response.getBody());
+        return login(username);
+    }
+
+    private String login(String username) {
+        Map<String, Object> credentials = Map.of("username", username, "password", PASSWORD);
+        ResponseEntity<JsonNode> response = restTemplate.postForEntity("/api/auth/login", credentials, JsonNode.class);
+        assertEquals(HttpStatus.OK, response.getStatusCode(), "Вхід: " + response.getBody());
+        return response.getBody().path("data").path("token").asText();
+    }
+
+    // Останній символ 43-символьного підпису несе 2 невикористані біти, які декодер відкидає
+    private static String withTrailingSignatureBits(String token) {
+        int last = token.length() - 1;
+        int value = Base64Url.valueOf(token.charAt(last)) | 0b01;
+        return token.substring(0, last) + BASE64URL_ALPHABET.charAt(value);
+    }
+
+    private ResponseEntity<String> get(String path, String token) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        return restTemplate.exchange(path, HttpMethod.GET, new HttpEntity<>(null, headers), String.class);
+    }
+
+    private ResponseEntity<String> post(String path, String token) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        return restTemplate.postForEntity(path, new HttpEntity<>(null, headers), String.class);
+    }
+}
@@ -0,0 +1,344 @@
+package com.lab2.service;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.lab2.concurrent.SingleFlight;
+import com.lab2.model.TokenData;
+import com.lab2.model.TokenPair;
+import com.lab2.service.impl.TokenServiceImpl;
+import com.lab2.verifier.PayloadClaims;
+import com.lab2.verifier.SigningKey;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenServiceConcurrencyTest {
+
+    private static final int THREADS = Math.max(4, Runtime.getRuntime().availableProcessors());
+    private static final Logger logger = (Logger) LoggerFactory.getLogger(TokenServiceConcurrencyTest.class);
+
+    private static Logger serviceLogger;
+    private static Level previousLevel;
+
+    private TokenServiceImpl tokenService;
+    private ExecutorService executor;
+
+    @BeforeAll
+    static void quietLogging() {
+        serviceLogger = (Logger) LoggerFactory.getLogger("com.lab2");
+        previousLevel = serviceLogger.getLevel();
+        serviceLogger.setLevel(Level.ERROR);
+        logger.setLevel(Level.INFO);
+    }
+
+    @AfterAll
+    static void restoreLogging() {
+        serviceLogger.setLevel(previousLevel);
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        tokenService = new TokenServiceImpl();
+        set("secretKey", "testSecretKeyForJWTTokenGenerationAndValidationInAuthApplication2024");
+        set("expirationHours", 1);
+        set("applicationName", "Test Auth Application");
+    }
+
+    @Test
+    void testInvalidatedTokensNeverValidateAgain() throws Exception {
+        runOnAllThreads(thread -> {
+            for (int i = 0; i < 300; i++) {
+                String token = tokenService.generateToken("user" + thread, "user@example.com", Map.of("i", (long) i));
+                assertTrue(tokenService.isTokenValid(token));
+                tokenService.invalidateToken(token);
+                assertFalse(tokenService.isTokenValid(token), "Втрачена інвалідація токену");
+            }
+        });
+    }
+
+    @Test
+    void testRevocationIsVisibleToValidationsStartedAfterIt() throws Exception {
+        for (int round = 0; round < 50; round++) {
+            String token = tokenService.generateToken("shared", "shared@example.com", null);
+            assertRevocationIsNotLost(token, () -> tokenService.invalidateToken(token));
+        }
+    }
+
+    @Test
+    void testInvalidateAllIsVisibleToValidationsStartedAfterIt() throws Exception {
+        for (int round = 0; round < 50; round++) {
+            String token = tokenService.generateToken("shared", "shared@example.com", null);
+            assertRevocationIsNotLost(token, () -> tokenService.invalidateAllTokens("shared"));
+        }
+    }
+
+    @Test
+    void testJoinerOfVerificationStartedBeforeInvalidateAllIsRejected() throws Exception {
+        String token = tokenService.generateToken("joiner", "joiner@example.com", null);
+        @SuppressWarnings("unchecked")
+        SingleFlight<String, PayloadClaims> validations = (SingleFlight<String, PayloadClaims>) get("validations");
+        SigningKey signingKey = new SigningKey(
+                "testSecretKeyForJWTTokenGenerationAndValidationInAuthApplication2024", 4096);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread leader = new Thread(() -> validations.execute(token, () -> {
+            awaitQuietly(release);
+            return signingKey.decodeClaims(token);
+        }));
+        leader.start();
+        while (validations.inFlightCount() == 0) {
+            Thread.sleep(1);
+        }
+
+        AtomicReference<Throwable> outcome = new AtomicReference<>();
+        Thread joiner = new Thread(() -> {
+            try {
+                tokenService.validateToken(token);
+            } catch (Throwable e) {
+                outcome.set(e);
+            }
+        });
+        joiner.start();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (joiner.getState() != Thread.State.WAITING) {
+            assertTrue(System.nanoTime() < deadline, "Потік не приєднався до перевірки, що триває");
+            Thread.sleep(1);
+        }
+
+        tokenService.invalidateAllTokens("joiner");
+        release.countDown();
+        leader.join(5000);
+        joiner.join(5000);
+
+        assertNotNull(outcome.get(), "Результат перевірки, розпочатої до відкликання, не повинен приймати токен");
+        assertEquals("Токен було відкликано", outcome.get().getMessage());
+    }
+
+    @Test
+    void testConcurrentLegacyRefreshMintsExactlyOneToken() throws Exception {
+        for (int round = 0; round < 100; round++) {
+            String token = tokenService.generateToken("user", "user@example.com", null);
+            List<String> minted = raceOnce(() -> tokenService.refreshToken(token));
+
+            assertEquals(1, minted.size(), "Один токен повинен оновлюватися рівно один раз");
+            assertTrue(tokenService.isTokenValid(minted.get(0)));
+            assertFalse(tokenService.isTokenValid(token));
+        }
+    }
+
+    @Test
+    void testConcurrentRefreshRotationSucceedsExactlyOnce() throws Exception {
+        for (int round = 0; round < 100; round++) {
+            TokenPair issued = tokenService.issueTokens("user", "user@example.com", null);
+            List<TokenPair> rotated = raceOnce(() -> tokenService.rotateRefreshToken(issued.refreshToken()));
+
+            assertEquals(1, rotated.size(), "Refresh-токен повинен ротуватися рівно один раз");
+        }
+    }
+
+    @Test
+    void testReferenceTokensKeepTheirOwnClaimsUnderChurn() throws Exception {
+        set("issuanceMode", "reference");
+        AtomicInteger mismatches = new AtomicInteger();
+
+        runOnAllThreads(thread -> {
+            List<String> live = new ArrayList<>();
+            for (int i = 0; i < 2000; i++) {
+                String username = "user" + thread + "_" + i;
+                live.add(tokenService.generateToken(username, username + "@example.com", Map.of("n", (long) i)));
+                if (live.size() > 8) {
+                    String victim = live.remove(0);
+                    tokenService.invalidateToken(victim);
+                    if (tokenService.isTokenValid(victim)) {
+                        mismatches.incrementAndGet();
+                    }
+                }
+                for (String token : live) {
+                    TokenData data = tokenService.validateToken(token);
+                    if (!(data.getEmail().equals(data.getUsername() + "@example.com"))) {
+                        mismatches.incrementAndGet();
+                    }
+                }
+            }
+        });
+
+        assertEquals(0, mismatches.get(), "Слоти reference-токенів не повинні змішувати claims");
+    }
+
+    @Test
+    @Tag("performance")
+    void testValidationThroughputScalesWithThreads() throws Exception {
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < 256; i++) {
+            tokens.add(tokenService.generateToken("user" + i, "user@example.com", Map.of("userId", (long) i)));
+        }
+        int maxThreads = Math.min(THREADS, 8);
+        double singleThreaded = 0;
+        StringBuilder report = new StringBuilder("Пропускна здатність перевірки токенів:");
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            double throughput = measureValidationThroughput(tokens, threads);
+            if (threads == 1) {
+                singleThreaded = throughput;
+            }
+            report.append(String.format("%n  %d потоків: %.0f оп/с (x%.2f)", threads, throughput, throughput / singleThreaded));
+            assertTrue(throughput >= singleThreaded * 0.5,
+                    "Пропускна здатність не повинна обвалюватися при " + threads + " потоках");
+        }
+        logger.info("{}", report);
+    }
+
+    private void assertRevocationIsNotLost(String token, Runnable revocation) throws Exception {
+        AtomicBoolean revoked = new AtomicBoolean();
+        AtomicBoolean stop = new AtomicBoolean();
+        AtomicLong lost = new AtomicLong();
+        List<Future<?>> validators = new ArrayList<>();
+        executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int i = 0; i < THREADS - 1; i++) {
+                validators.add(executor.submit(() -> {
+                    while (!stop.get()) {
+                        boolean afterRevocation = revoked.get();
+                        if (tokenService.isTokenValid(token) && afterRevocation) {
+                            lost.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            Thread.sleep(2);
+            revocation.run();
+            revoked.set(true);
+            Thread.sleep(5);
+            stop.set(true);
+            for (Future<?> validator : validators) {
+                validator.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(0, lost.get(), "Перевірка, розпочата після відкликання, не повинна проходити");
+    }
+
+    private <T> List<T> raceOnce(Callable<T> action) throws Exception {
+        CyclicBarrier barrier = new CyclicBarrier(THREADS);
+        ConcurrentLinkedQueue<T> successes = new ConcurrentLinkedQueue<>();
+        executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    barrier.await();
+                    try {
+                        successes.add(action.call());
+                    } catch (IllegalStateException expected) {
+                        // програв гонку
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return new ArrayList<>(successes);
+    }
+
+    private void runOnAllThreads(ThreadTask task) throws Exception {
+        executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                int thread = i;
+                futures.add(executor.submit(() -> {
+                    task.run(thread);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private double measureValidationThroughput(List<String> tokens, int threads) throws Exception {
+        long durationNanos = TimeUnit.MILLISECONDS.toNanos(400);
+        AtomicLong operations = new AtomicLong();
+        CyclicBarrier barrier = new CyclicBarrier(threads);
+        executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                int offset = i * 31;
+                futures.add(executor.submit(() -> {
+                    for (int warmup = 0; warmup < 2000; warmup++) {
+                        tokenService.validateToken(tokens.get((offset + warmup) % tokens.size()));
+                    }
+                    barrier.await();
+                    long deadline = System.nanoTime() + durationNanos;
+                    long count = 0;
+                    while (System.nanoTime() < deadline) {
+                        tokenService.validateToken(tokens.get((int) ((offset + count) % tokens.size())));
+                        count++;
+                    }
+                    operations.addAndGet(count);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return operations.get() / (durationNanos / 1e9);
+    }
+
+    private Object get(String field) throws ReflectiveOperationException {
+        Field declared = TokenServiceImpl.class.getDeclaredField(field);
+        declared.setAccessible(true);
+        return declared.get(tokenService);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void set(String field, Object value) throws ReflectiveOperationException {
+        Field declared = TokenServiceImpl.class.getDeclaredField(field);
+        declared.setAccessible(true);
+        declared.set(tokenService, value);
+    }
+
+    @FunctionalInterface
+    private interface ThreadTask {
+        void run(int thread) throws Exception;
+    }
+}
@@ -0,0 +1,306 @@
+package com.lab2.service;
+
+import com.lab2.model.TokenData;
+import com.lab2.model.TokenPair;
+import com.lab2.model.TokenPrecheck;
+import com.lab2.service.impl.TokenServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenServiceTest {
+
+    private TokenService tokenService;
+
+    @BeforeEach
+    void setUp() {
+        tokenService = new TokenServiceImpl();
+        try {
+            Field secretField = TokenServiceImpl.class.getDeclaredField("secretKey");
+            secretField.setAccessible(true);
+            secretField.set(tokenService, "testSecretKeyForJWTTokenGenerationAndValidationInAuthApplication2024");
+            
+            Field expirationField = TokenServiceImpl.class.getDeclaredField("expirationHours");
+            expirationField.setAccessible(true);
+            expirationField.set(tokenService, 1);
+            
+            Field appNameField = TokenServiceImpl.class.getDeclaredField("applicationName");
+            appNameField.setAccessible(true);
+            appNameField.set(tokenService, "Test Auth Application");
+        } catch (Exception e) {
+            fail("Помилка налаштування тестового середовища: " + e.getMessage());
+        }
+    }
+
+    @Test
+    void testGenerateToken() {
+        String username = "testuser";
+        String email = "test@example.com";
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("userId", 12345L);
+        metadata.put("role", "user");
+
+        String token = tokenService.generateToken(username, email, metadata);
+
+        assertNotNull(token, "Токен не повинен бути null");
+        assertFalse(token.isEmpty(), "Токен не повинен бути порожнім");
+    }
+
+    @Test
+    void testValidateToken() {
+        String username = "testuser";
+        String email = "test@example.com";
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("userId", 12345L);
+
+        String token = tokenService.generateToken(username, email, metadata);
+        TokenData tokenData = tokenService.validateToken(token);
+
+        assertNotNull(tokenData, "TokenData не повинен бути null");
+        assertEquals(username, tokenData.getUsername(), "Username повинен співпадати");
+        assertEquals(email, tokenData.getEmail(), "Email повинен співпадати");
+        assertEquals("Test Auth Application", tokenData.getApplicationName(), "Назва додатку повинна співпадати");
+        assertNotNull(tokenData.getCreatedAt(), "Час створення не повинен бути null");
+        assertNotNull(tokenData.getExpiresAt(), "Термін дії не повинен бути null");
+        assertNotNull(tokenData.getMetadata(), "Метадані не повинні бути null");
+    }
+
+    @Test
+    void testInvalidToken() {
+        String invalidToken = "invalid.token.here";
+
+        assertThrows(Exception.class, () -> {
+            tokenService.validateToken(invalidToken);
+        }, "Невірний токен повинен викликати виняток");
+    }
+
+    @Test
+    void testInvalidateToken() {
+        String username = "testuser";
+        String email = "test@example.com";
+        String token = tokenService.generateToken(username, email, null);
+
+        tokenService.invalidateToken(token);
+
+        assertThrows(Exception.class, () -> {
+            tokenService.validateToken(token);
+        }, "Інвалідований токен повинен викликати виняток при валідації");
+    }
+
+    @Test
+    void testRefreshToken() {
+        String username = "testuser";
+        String email = "test@example.com";
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("userId", 12345L);
+
+        String oldToken = tokenService.generateToken(username, email, metadata);
+        String newToken = tokenService.refreshToken(oldToken);
+
+        assertNotNull(newToken, "Новий токен не повинен бути null");
+        assertNotEquals(oldToken, newToken, "Новий токен повинен відрізнятися від старого");
+
+        TokenData newTokenData = tokenService.validateToken(newToken);
+        assertEquals(username, newTokenData.getUsername(), "Username повинен зберегтися після оновлення");
+
+        assertThrows(Exception.class, () -> {
+            tokenService.validateToken(oldToken);
+        }, "Старий токен повинен бути інвалідований");
+    }
+
+    @Test
+    void testIsTokenValid() {
+        String username = "testuser";
+        String email = "test@example.com";
+        String token = tokenService.generateToken(username, email, null);
+
+        assertTrue(tokenService.isTokenValid(token), "Валідний токен повинен повертати true");
+
+        tokenService.invalidateToken(token);
+        assertFalse(tokenService.isTokenValid(token), "Інвалідований токен повинен повертати false");
+    }
+
+    @Test
+    void testTokenContainsMetadata() {
+        String username = "testuser";
+        String email = "test@example.com";
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("userId", 12345L);
+        metadata.put("role", "admin");
+        metadata.put("department", "IT");
+
+        String token = tokenService.generateToken(username, email, metadata);
+        TokenData tokenData = tokenService.validateToken(token);
+
+        assertNotNull(tokenData.getMetadata(), "Метадані не повинні бути null");
+        assertEquals(12345L, tokenData.getMetadata().get("userId"), "userId повинен зберегтися в метаданих");
+        assertEquals("admin", tokenData.getMetadata().get("role"), "role повинен зберегтися в метаданих");
+        assertEquals("IT", tokenData.getMetadata().get("department"), "department повинен зберегтися в метаданих");
+    }
+
+    @Test
+    void testTamperedSignatureRejected() {
+        String token = tokenService.generateToken("testuser", "test@example.com", null);
+        char last = token.charAt(token.length() - 2);
+        String tampered = token.substring(0, token.length() - 2) + (last == 'A' ? 'B' : 'A') + token.charAt(token.length() - 1);
+
+        assertEquals(TokenPrecheck.PASSED, tokenService.precheck(tampered));
+        assertThrows(IllegalStateException.class, () -> tokenService.validateToken(tampered),
+                "Токен з підробленим підписом повинен відхилятися");
+    }
+
+    @Test
+    void testClaimsDecodedFromEscapedPayload() {
+        String username = "тест \"user\"\n";
+        String token = tokenService.generateToken(username, "test@example.com", Map.of("note", "a/b\\c"));
+        TokenData tokenData = tokenService.validateToken(token);
+
+        assertEquals(username, tokenData.getUsername());
+        assertEquals("test@example.com", tokenData.getEmail());
+        assertEquals("a/b\\c", tokenData.getMetadata().get("note"));
+        assertFalse(tokenData.getMetadata().containsKey("username"), "Стандартні поля не повинні потрапляти в метадані");
+    }
+
+    @Test
+    void testInvalidateAllTokensRevokesOlderGenerations() {
+        TokenPair first = tokenService.issueTokens("testuser", "test@example.com", null);
+        String second = tokenService.generateToken("testuser", "test@example.com", null);
+        String otherUser = tokenService.generateToken("otheruser", "other@example.com", null);
+
+        tokenService.invalidateAllTokens("testuser");
+
+        assertFalse(tokenService.isTokenValid(first.accessToken()), "Старі токени користувача повинні бути відкликані");
+        assertFalse(tokenService.isTokenValid(second), "Старі токени користувача повинні бути відкликані");
+        assertThrows(IllegalStateException.class, () -> tokenService.rotateRefreshToken(first.refreshToken()),
+                "Старі refresh-сесії повинні бути відкликані");
+        assertTrue(tokenService.isTokenValid(otherUser), "Токени інших користувачів не повинні зачіпатися");
+
+        TokenData fresh = tokenService.validateToken(tokenService.generateToken("testuser", "test@example.com", null));
+        assertEquals("testuser", fresh.getUsername(), "Нові токени повинні бути валідними");
+        assertFalse(fresh.getMetadata().containsKey("gen"), "Покоління не повинно потрапляти в метадані");
+    }
+
+    @Test
+    void testReferenceTokenMode() throws Exception {
+        Field modeField = TokenServiceImpl.class.getDeclaredField("issuanceMode");
+        modeField.setAccessible(true);
+        modeField.set(tokenService, "reference");
+
+        TokenPair tokens = tokenService.issueTokens("testuser", "test@example.com", Map.of("userId", 12345L));
+        String token = tokens.accessToken();
+
+        assertTrue(token.startsWith("rt_"), "Повинен видаватися reference-токен");
+        assertEquals(TokenPrecheck.PASSED, tokenService.precheck(token));
+        TokenData tokenData = tokenService.validateToken(token);
+        assertEquals("testuser", tokenData.getUsername());
+        assertEquals("test@example.com", tokenData.getEmail());
+        assertEquals(12345L, tokenData.getMetadata().get("userId"));
+        assertNotNull(tokenData.getExpiresAt());
+
+        char last = token.charAt(token.length() - 2);
+        String forged = token.substring(0, token.length() - 2) + (last == 'A' ? 'B' : 'A') + token.charAt(token.length() - 1);
+        assertFalse(tokenService.isTokenValid(forged), "Підроблений reference-токен повинен відхилятися");
+        assertEquals(TokenPrecheck.MALFORMED, tokenService.precheck(token + "A"));
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int unusedBits = 1; unusedBits < 4; unusedBits++) {
+            char tail = alphabet.charAt(alphabet.indexOf(token.charAt(token.length() - 1)) | unusedBits);
+            String padded = token.substring(0, token.length() - 1) + tail;
+            assertEquals(TokenPrecheck.BAD_ENCODING, tokenService.precheck(padded),
+                    "Ненульові невикористані біти останнього символу повинні відхилятися");
+            assertFalse(tokenService.isTokenValid(padded));
+        }
+
+        tokenService.invalidateToken(token);
+        assertFalse(tokenService.isTokenValid(token), "Інвалідований reference-токен повинен відхилятися");
+
+        String second = tokenService.generateToken("testuser", "test@example.com", null);
+        assertTrue(tokenService.isTokenValid(second), "Новий reference-токен повинен бути валідним");
+        tokenService.invalidateAllTokens("testuser");
+        assertFalse(tokenService.isTokenValid(second), "Reference-токени повинні враховувати покоління користувача");
+    }
+
+    @Test
+    void testPrecheckAcceptsIssuedToken() {
+        String token = tokenService.generateToken("testuser", "test@example.com", null);
+
+        assertEquals(TokenPrecheck.PASSED, tokenService.precheck(token), "Виданий токен повинен проходити попередню перевірку");
+    }
+
+    @Test
+    void testPrecheckRejectsJunkWithoutCryptography() {
+        String token = tokenService.generateToken("testuser", "test@example.com", null);
+        String[] parts = token.split("\\.");
+
+        assertEquals(TokenPrecheck.MISSING, tokenService.precheck("   "));
+        assertEquals(TokenPrecheck.TOO_LONG, tokenService.precheck("a".repeat(5000)));
+        assertEquals(TokenPrecheck.MALFORMED, tokenService.precheck("invalid.token"));
+        assertEquals(TokenPrecheck.MALFORMED, tokenService.precheck(token + ".extra"));
+        assertEquals(TokenPrecheck.BAD_ENCODING, tokenService.precheck("inva+lid.tok/en.here"));
+        assertEquals(TokenPrecheck.UNSUPPORTED_HEADER, tokenService.precheck("eyJhbGciOiJub25lIn0." + parts[1] + "." + parts[2]));
+        assertEquals(TokenPrecheck.MALFORMED, tokenService.precheck(parts[0] + "." + parts[1] + ".c2ln"));
+    }
+
+    @Test
+    void testPrecheckRejectsExpiredToken() throws Exception {
+        Field expirationField = TokenServiceImpl.class.getDeclaredField("accessExpirationMinutes");
+        expirationField.setAccessible(true);
+        expirationField.set(tokenService, -1);
+        String token = tokenService.generateToken("testuser", "test@example.com", null);
+
+        assertEquals(TokenPrecheck.EXPIRED, tokenService.precheck(token), "Прострочений токен повинен відхилятися без криптографії");
+        assertThrows(IllegalStateException.class, () -> tokenService.validateToken(token));
+    }
+
+    @Test
+    void testClaimValuesEqualToExpDoNotHideExpiration() {
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("role", "exp");
+        String token = tokenService.generateToken("exp", "exp@example.com", metadata);
+
+        assertEquals(TokenPrecheck.PASSED, tokenService.precheck(token), "Значення \"exp\" не повинно сприйматися як ключ exp");
+        assertEquals("exp", tokenService.validateToken(token).getUsername());
+    }
+
+    @Test
+    void testRefreshTokenRotation() {
+        TokenPair issued = tokenService.issueTokens("testuser", "test@example.com", Map.of("userId", 12345L));
+
+        TokenPair rotated = tokenService.rotateRefreshToken(issued.refreshToken());
+
+        assertNotEquals(issued.refreshToken(), rotated.refreshToken(), "Refresh-токен повинен ротуватися");
+        assertEquals("testuser", tokenService.validateToken(rotated.accessToken()).getUsername());
+        assertEquals(12345L, tokenService.validateToken(rotated.accessToken()).getMetadata().get("userId"));
+    }
+
+    @Test
+    void testRefreshTokenReuseRevokesFamily() {
+        TokenPair issued = tokenService.issueTokens("testuser", "test@example.com", null);
+        TokenPair rotated = tokenService.rotateRefreshToken(issued.refreshToken());
+
+        IllegalStateException reuse = assertThrows(IllegalStateException.class,
+                () -> tokenService.rotateRefreshToken(issued.refreshToken()),
+                "Повторне використання refresh-токену повинно відхилятися");
+        assertFalse(reuse.getMessage().contains("testuser"), "Повідомлення не повинно розкривати власника токену");
+        assertThrows(IllegalStateException.class, () -> tokenService.rotateRefreshToken(rotated.refreshToken()),
+                "Уся сім'я токенів повинна бути відкликана");
+    }
+
+    @Test
+    void testLegacyRefreshDropsSessionClaim() {
+        TokenPair issued = tokenService.issueTokens("testuser", "test@example.com", Map.of("userId", 12345L));
+        TokenData data = tokenService.validateToken(issued.accessToken());
+        assertFalse(data.getMetadata().containsKey("sid"), "sid не повинен потрапляти в метадані");
+
+        String refreshed = tokenService.refreshToken(issued.accessToken());
+        String payload = new String(Base64.getUrlDecoder().decode(refreshed.split("\\.")[1]), StandardCharsets.UTF_8);
+        assertFalse(payload.contains("\"sid\""), "Оновлений JWT не повинен належати відкликаній сесії");
+        assertEquals(12345L, tokenService.validateToken(refreshed).getMetadata().get("userId"));
+    }
+}
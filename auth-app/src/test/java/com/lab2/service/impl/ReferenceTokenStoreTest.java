@@ -0,0 +1,75 @@
+package com.lab2.service.impl;
+
+import com.lab2.expiry.ExpiryHandle;
+import com.lab2.expiry.ExpiryListener;
+import com.lab2.expiry.ExpiryScheduler;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReferenceTokenStoreTest {
+
+    private static final byte[] PAYLOAD = "{\"sub\":\"alice\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final ManualExpiryScheduler scheduler = new ManualExpiryScheduler();
+    private final ReferenceTokenStore store = new ReferenceTokenStore(4, 128, scheduler);
+
+    @Test
+    void testEachIssuedSlotIsReleasedByItsOwnExpiry() {
+        long now = System.currentTimeMillis();
+        String token = store.issue(PAYLOAD, now + 60_000);
+        assertEquals(1, scheduler.scheduledCount(), "Кожен слот повинен мати власний запис у колесі");
+        assertArrayEquals(PAYLOAD, store.lookup(token, now));
+
+        scheduler.expireAll();
+        assertEquals(0, store.size());
+        assertNull(store.lookup(token, now));
+        assertEquals(0, scheduler.scheduledCount(), "Звільнення слоту не повинно нічого перепланувати");
+    }
+
+    @Test
+    void testStaleExpiryDoesNotReleaseReissuedSlot() {
+        long now = System.currentTimeMillis();
+        String revoked = store.issue(PAYLOAD, now + 60_000);
+        assertTrue(store.remove(revoked));
+        String reissued = store.issue(PAYLOAD, now + 120_000);
+
+        scheduler.expireFirst();
+        assertEquals(1, store.size(), "Запис відкликаного токену не повинен звільняти перевиданий слот");
+        assertArrayEquals(PAYLOAD, store.lookup(reissued, now));
+
+        scheduler.expireFirst();
+        assertEquals(0, store.size());
+        assertNull(store.lookup(reissued, now));
+    }
+
+    private static final class ManualExpiryScheduler implements ExpiryScheduler {
+
+        private final List<Runnable> pending = new ArrayList<>();
+
+        @Override
+        public synchronized <T> ExpiryHandle schedule(long expiresAtMillis, T item, ExpiryListener<T> listener) {
+            pending.add(() -> listener.onExpired(List.of(item)));
+            return () -> false;
+        }
+
+        @Override
+        public synchronized long scheduledCount() {
+            return pending.size();
+        }
+
+        synchronized void expireFirst() {
+            pending.remove(0).run();
+        }
+
+        synchronized void expireAll() {
+            List<Runnable> due = new ArrayList<>(pending);
+            pending.clear();
+            due.forEach(Runnable::run);
+        }
+    }
+}
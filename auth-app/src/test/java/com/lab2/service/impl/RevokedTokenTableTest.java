@@ -0,0 +1,47 @@
+package com.lab2.service.impl;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RevokedTokenTableTest {
+
+    @Test
+    void testExpiredEntryRemovalRestoresEmptyFastPath() {
+        RevokedTokenTable table = new RevokedTokenTable();
+        assertTrue(table.add(42L, 100L));
+        assertFalse(table.add(42L, 100L), "Повторне додавання не повинно вважатися новим");
+        assertTrue(table.contains(42L));
+
+        assertEquals(100L, table.removeIfExpired(42L, 99L), "Запис живе до свого exp");
+        assertTrue(table.contains(42L));
+
+        assertEquals(0L, table.removeIfExpired(42L, 100L));
+        table.markEmptyIfDrained();
+        assertFalse(table.contains(42L));
+        assertEquals(0, table.size());
+        assertTrue(table.add(7L, 200L), "Після видалення таблиця знову приймає записи");
+        assertTrue(table.contains(7L));
+    }
+
+    @Test
+    void testRemovalKeepsCollidingKeysReachable() {
+        RevokedTokenTable table = new RevokedTokenTable();
+        // Один сегмент і одна початкова позиція: ключі лягають одним ланцюжком пробування
+        long first = 0x1000_0000_0000_0010L;
+        long second = 0x1000_0000_0000_0020L;
+        long third = 0x1000_0000_0000_0030L;
+        table.add(first, 100L);
+        table.add(second, 200L);
+        table.add(third, 300L);
+
+        assertEquals(0L, table.removeIfExpired(first, 150L));
+        assertFalse(table.contains(first));
+        assertTrue(table.contains(second), "Зсув назад не повинен розривати ланцюжок");
+        assertTrue(table.contains(third));
+
+        assertEquals(0L, table.removeIfExpired(second, 250L));
+        assertEquals(0L, table.removeIfExpired(third, 300L));
+        assertEquals(0, table.size());
+    }
+}
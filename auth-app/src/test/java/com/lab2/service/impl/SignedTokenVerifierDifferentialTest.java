@@ -0,0 +1,495 @@
+package com.lab2.service.impl;
+
+import com.lab2.model.ClaimsBackedTokenData;
+import com.lab2.model.TokenClaims;
+import com.lab2.model.TokenPrecheck;
+import com.lab2.verifier.PayloadClaims;
+import com.lab2.verifier.RevocationState;
+import com.lab2.verifier.SigningKey;
+import com.lab2.verifier.TokenVerifier;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SignedTokenVerifierDifferentialTest {
+
+    private static final String SECRET = "testSecretKeyForJWTTokenGenerationAndValidationInAuthApplication2024";
+    private static final long SEED = 20261019L;
+    private static final int CASES = 20_000;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final String[] KEYS = {
+            "username", "sub", "email", "exp", "iat", "nbf", "gen", "sid", "applicationName", "createdAt",
+            "userId", "note", "e\\u0078p", "nb\\u0066", "EXP"
+    };
+    private static final String CORRUPTION = ",:{}[]\"\\ 0123456789.-+eEtfnul\u00e9\t";
+    private static final String TOKEN_ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_=+/. ";
+
+    private static final String[] PROFILE_STRINGS = {
+            "\"alice\"", "\"олена\"", "\"a\\\"b\"", "\"tab\\tand\\u00e9\"", "\"\\ud83d\\ude00\"",
+            "\"exp\\\":1\"", "\"emoji \ud83d\ude00\""
+    };
+    // Рядкові claims на кшталт sub не можуть починатися чи закінчуватися екрануванням
+    private static final String[] PROFILE_SUBJECTS = {
+            "\"alice\"", "\"олена\"", "\"a\\\"b\"", "\"o\\u00e9o\"", "\"emoji \ud83d\ude00\""
+    };
+
+    private final SigningKey signingKey = new SigningKey(SECRET, 4096);
+    private final SignedTokenVerifier verifier = new SignedTokenVerifier(signingKey);
+    private final TokenVerifier embedded = new TokenVerifier(SECRET, new RevocationState(), 4096, 1024);
+    // Оракул: JJWT, що видає ключ лише для HS256 з kid сервісу
+    private final JwtParser jjwt = Jwts.parser().keyLocator(header -> {
+        if (header instanceof JwsHeader jws && "HS256".equals(jws.getAlgorithm())
+                && signingKey.keyId().equals(jws.getKeyId())) {
+            return signingKey.key();
+        }
+        throw new UnsupportedJwtException("Чужий заголовок");
+    }).build();
+    private final String canonicalHeader = "{\"kid\":\"" + signingKey.keyId() + "\",\"alg\":\"HS256\"}";
+    private final String[] pinnedHeaders = {
+            canonicalHeader,
+            "{\"alg\":\"HS256\",\"kid\":\"" + signingKey.keyId() + "\"}",
+            "{\"alg\":\"HS256\",\"typ\":\"JWT\",\"kid\":\"" + signingKey.keyId() + "\"}",
+            "{ \"kid\" : \"" + signingKey.keyId() + "\" , \"alg\" : \"HS256\" }"
+    };
+    private final long now = System.currentTimeMillis() / 1000;
+
+    // Сервіс і вбудований TokenVerifier повинні приймати однакові токени з однаковими claims,
+    // а все прийняте — приймати й JJWT із закріпленими alg і kid. Сервіс може бути суворішим за JJWT
+    // (нецілі часові мітки, некоректний UTF-8, дублікати ключів), але ніколи — м'якшим.
+    @Test
+    void testServiceAndEmbeddedVerifierAgreeAndNeverAcceptMoreThanJjwt() {
+        Random random = new Random(SEED);
+        List<String> mismatches = new ArrayList<>();
+        int accepted = 0;
+        int fastPath = 0;
+        int trailingBits = 0;
+        for (int i = 0; i < CASES && mismatches.size() < 5; i++) {
+            String token = randomToken(random);
+            Outcome service = verifier(token);
+            Outcome library = embedded(token);
+            if (!service.equals(library)) {
+                mismatches.add("сервіс=" + service + " бібліотека=" + library + " token=" + token);
+            }
+            if (hasTrailingSignatureBits(token)) {
+                if (service.accepted()) {
+                    mismatches.add("неканонічний підпис прийнято: " + token);
+                } else if (jjwt(token).accepted()) {
+                    trailingBits++;
+                }
+            }
+            if (service.accepted()) {
+                Outcome expected = jjwt(token);
+                if (!expected.equals(service)) {
+                    mismatches.add("JJWT=" + expected + " сервіс=" + service + " token=" + token);
+                }
+                accepted++;
+                if (signingKey.precheck(token, now) == TokenPrecheck.PASSED) {
+                    fastPath++;
+                }
+            }
+        }
+        assertEquals(List.of(), mismatches, "Розбіжності (seed " + SEED + ")");
+        assertTrue(accepted > CASES / 20, "Фазер повинен генерувати достатньо валідних токенів: " + accepted);
+        assertTrue(fastPath > accepted / 3, "Частина валідних токенів повинна йти швидким шляхом: " + fastPath);
+        assertTrue(fastPath < accepted, "Частина валідних токенів повинна йти через JJWT: " + fastPath);
+        assertTrue(trailingBits > 0, "Фазер повинен генерувати справжні підписи з ненульовими молодшими бітами");
+    }
+
+    @Test
+    void testTokensOfSupportedShapeAreAcceptedEverywhere() {
+        Random random = new Random(SEED);
+        List<String> mismatches = new ArrayList<>();
+        for (int i = 0; i < CASES / 10 && mismatches.size() < 5; i++) {
+            String header = pinnedHeaders[random.nextInt(pinnedHeaders.length)];
+            String token = sign("HmacSHA256", header, profilePayload(random));
+            Outcome expected = jjwt(token);
+            Outcome service = verifier(token);
+            Outcome library = embedded(token);
+            if (!expected.accepted() || !expected.equals(service) || !expected.equals(library)) {
+                mismatches.add("JJWT=" + expected + " сервіс=" + service + " бібліотека=" + library
+                        + " token=" + token);
+            }
+        }
+        assertEquals(List.of(), mismatches, "Токени підтримуваної форми повинні прийматися (seed " + SEED + ")");
+    }
+
+    @Test
+    void testOtherAlgorithmsAndKeysAreRejectedEvenWhenSignedWithTheSecret() {
+        Date expiration = new Date((now + 3600) * 1000);
+        byte[] secret = SECRET.getBytes(StandardCharsets.UTF_8);
+        List<String> signedWithSecret = List.of(
+                Jwts.builder().subject("alice").expiration(expiration)
+                        .signWith(Keys.hmacShaKeyFor(secret), Jwts.SIG.HS512).compact(),
+                Jwts.builder().subject("alice").expiration(expiration)
+                        .signWith(Keys.hmacShaKeyFor(secret), Jwts.SIG.HS384).compact(),
+                Jwts.builder().header().keyId(signingKey.keyId()).and().subject("alice").expiration(expiration)
+                        .signWith(Keys.hmacShaKeyFor(secret), Jwts.SIG.HS512).compact(),
+                Jwts.builder().subject("alice").expiration(expiration)
+                        .signWith(signingKey.key(), Jwts.SIG.HS256).compact(),
+                Jwts.builder().header().keyId("other").and().subject("alice").expiration(expiration)
+                        .signWith(signingKey.key(), Jwts.SIG.HS256).compact());
+        JwtParser unpinned = Jwts.parser().verifyWith(Keys.hmacShaKeyFor(secret)).build();
+        List<String> foreign = new ArrayList<>(signedWithSecret);
+        foreign.add(sign("HmacSHA256", "{\"alg\":\"HS256\",\"kid\":\"" + signingKey.keyId() + "\",\"crit\":[\"exp\"]}",
+                "{\"sub\":\"alice\",\"exp\":" + (now + 3600) + "}"));
+        foreign.add(sign("HmacSHA256", "{\"alg\":\"none\",\"kid\":\"" + signingKey.keyId() + "\"}",
+                "{\"sub\":\"alice\",\"exp\":" + (now + 3600) + "}"));
+
+        for (String token : signedWithSecret) {
+            assertEquals("alice", unpinned.parseSignedClaims(token).getPayload().getSubject(),
+                    "Токен повинен бути справжнім, інакше перевірка нічого не доводить");
+        }
+        for (String token : foreign) {
+            assertEquals(TokenPrecheck.UNSUPPORTED_HEADER, signingKey.precheck(token, now), token);
+            assertFalse(verifier(token).accepted(), "Сервіс не повинен приймати " + token);
+            assertFalse(embedded(token).accepted(), "Бібліотека не повинна приймати " + token);
+        }
+    }
+
+    @Test
+    void testIssuedTokensStayOnFastPath() {
+        TokenServiceImpl tokenService = new TokenServiceImpl();
+        ReflectionTestUtils.setField(tokenService, "secretKey", SECRET);
+        ReflectionTestUtils.setField(tokenService, "expirationHours", 1);
+        ReflectionTestUtils.setField(tokenService, "applicationName", "Тестовий застосунок");
+        String token = tokenService.generateToken("олена", "olena@example.com", Map.of("userId", 7L, "note", "\"exp\""));
+
+        assertEquals(TokenPrecheck.PASSED, signingKey.precheck(token, now));
+        assertEquals(jjwt(token), verifier(token));
+        assertEquals(jjwt(token), embedded(token));
+    }
+
+    // Такі рядки проходять HMAC, але ключі відкликання, кешу та SingleFlight розрізняли б їх з оригіналом
+    @Test
+    void testTrailingSignatureBitsAreRejectedBeforeSignatureCheck() {
+        String token = sign("HmacSHA256", canonicalHeader, "{\"exp\":" + (now + 3600) + ",\"username\":\"alice\"}");
+        assertTrue(jjwt(token).accepted());
+        int last = token.length() - 1;
+        int value = TOKEN_ALPHABET.indexOf(token.charAt(last));
+        assertEquals(0, value & 0b11, "HS256 підпис завжди закінчується нульовими бітами");
+
+        for (int bits = 1; bits <= 0b11; bits++) {
+            String variant = token.substring(0, last) + TOKEN_ALPHABET.charAt(value | bits);
+            assertTrue(jjwt(variant).accepted(), "JJWT відкидає невикористані біти, тож варіант проходить HMAC");
+            assertEquals(TokenPrecheck.BAD_ENCODING, signingKey.precheck(variant, now));
+            assertFalse(verifier(variant).accepted(), "Сервіс не повинен приймати " + variant);
+            assertFalse(embedded(variant).accepted(), "Бібліотека не повинна приймати " + variant);
+        }
+    }
+
+    private Outcome jjwt(String token) {
+        Claims claims;
+        try {
+            claims = jjwt.parseSignedClaims(token).getPayload();
+        } catch (RuntimeException e) {
+            return Outcome.REJECTED;
+        }
+        if (claims.getExpiration() == null) {
+            return Outcome.REJECTED;
+        }
+        return new Outcome(true, claims.getExpiration().getTime() / 1000, text(claims.get("sub")),
+                text(claims.get("username")), text(claims.get("email")));
+    }
+
+    private Outcome verifier(String token) {
+        TokenPrecheck precheck = signingKey.precheck(token, now);
+        if (precheck != TokenPrecheck.PASSED && precheck != TokenPrecheck.NON_CANONICAL) {
+            return Outcome.REJECTED;
+        }
+        PayloadClaims claims;
+        try {
+            claims = verifier.verify(token, precheck);
+        } catch (IllegalStateException e) {
+            return Outcome.REJECTED;
+        }
+        return new Outcome(true, claims.getExpiresAtEpochSecond(), claims.getUsername(), claims.getString("username"),
+                claims.getEmail());
+    }
+
+    private Outcome embedded(String token) {
+        TokenClaims claims;
+        try {
+            claims = ((ClaimsBackedTokenData) embedded.verify(token)).getClaims();
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return Outcome.REJECTED;
+        }
+        return new Outcome(true, claims.getExpiresAtEpochSecond(), claims.getUsername(), claims.getString("username"),
+                claims.getEmail());
+    }
+
+    // Payload у межах підтримуваної форми: цілі часові мітки, nbf у минулому, обрізані рядкові claims
+    private String profilePayload(Random random) {
+        StringBuilder json = new StringBuilder("{");
+        whitespace(random, json);
+        json.append("\"exp\":").append(now + 3600 + random.nextInt(86_400));
+        if (random.nextBoolean()) {
+            json.append(",\"iat\":").append(now - random.nextInt(86_400));
+        }
+        if (random.nextInt(3) == 0) {
+            json.append(",\"nbf\":").append(now - random.nextInt(86_400));
+        }
+        if (random.nextInt(3) == 0) {
+            json.append(",\"aud\":\"auth-app\"");
+        }
+        for (String key : new String[]{"sub", "username", "email", "gen", "note"}) {
+            if (random.nextBoolean()) {
+                json.append(',');
+                whitespace(random, json);
+                json.append('"').append(key).append("\":");
+                whitespace(random, json);
+                json.append(key.equals("gen") ? Integer.toString(random.nextInt(5))
+                        : key.equals("sub") ? PROFILE_SUBJECTS[random.nextInt(PROFILE_SUBJECTS.length)]
+                        : PROFILE_STRINGS[random.nextInt(PROFILE_STRINGS.length)]);
+            }
+        }
+        json.append('}');
+        return json.toString();
+    }
+
+    private String randomToken(Random random) {
+        String token = switch (random.nextInt(10)) {
+            case 0, 1, 2, 3 -> sign("HmacSHA256", canonicalHeader, randomPayload(random, false));
+            case 4, 5 -> sign("HmacSHA256", canonicalHeader, randomPayload(random, true));
+            case 6 -> signed(random, randomHeader(random), randomPayload(random, random.nextBoolean()));
+            case 7 -> sign("HmacSHA256", canonicalHeader, payloadBytes(random));
+            default -> mutate(random, sign("HmacSHA256", canonicalHeader, randomPayload(random, false)));
+        };
+        return token;
+    }
+
+    private String signed(Random random, String header, String payload) {
+        String algorithm = header.contains("HS512") ? "HmacSHA512" : header.contains("HS384") ? "HmacSHA384"
+                : "HmacSHA256";
+        return sign(random.nextInt(8) == 0 ? "HmacSHA256" : algorithm, header, payload);
+    }
+
+    private String randomHeader(Random random) {
+        String[] headers = {
+                canonicalHeader,
+                "{\"alg\":\"HS256\",\"kid\":\"" + signingKey.keyId() + "\"}",
+                "{\"alg\":\"HS256\",\"typ\":\"JWT\",\"kid\":\"" + signingKey.keyId() + "\"}",
+                "{ \"kid\" : \"" + signingKey.keyId() + "\" , \"alg\" : \"HS256\" }",
+                "{\"alg\":\"HS256\",\"kid\":\"" + signingKey.keyId() + "\",\"crit\":[\"exp\"]}",
+                "{\"alg\":\"HS256\",\"kid\":\"" + signingKey.keyId() + "\",\"kid\":\"other\"}",
+                "{\"alg\":\"HS256\"}",
+                "{\"alg\":\"HS256\",\"typ\":\"JWT\"}",
+                "{ \"kid\" : \"other\", \"alg\" : \"HS256\" }",
+                "{\"alg\":\"HS384\"}",
+                "{\"alg\":\"HS512\",\"kid\":\"" + signingKey.keyId() + "\"}",
+                "{\"alg\":\"none\"}",
+                "{\"alg\":\"RS256\"}",
+                "{\"alg\":\"ES256\",\"kid\":\"x\"}",
+                "{\"alg\":\"HS999\"}",
+                "{\"alg\":\"none\",\"alg\":\"HS256\"}",
+                "{\"\\u0061lg\":\"HS256\"}",
+                "{\"alg\":\"HS256\",\"crit\":[\"exp\"]}",
+                "{\"alg\":\"HS256\",\"b64\":false,\"crit\":[\"b64\"]}",
+                "{\"alg\":\"HS256\",\"zip\":\"DEF\"}",
+                "{\"alg\":\"HS256\"} ",
+                "{\"alg\":\"HS256\"}x",
+                "{\"alg\":\"HS256\",}",
+                "[\"alg\",\"HS256\"]",
+                "{\"alg\":256}",
+                "{}",
+                ""
+        };
+        return headers[random.nextInt(headers.length)];
+    }
+
+    private String randomPayload(Random random, boolean corrupt) {
+        StringBuilder json = new StringBuilder();
+        whitespace(random, json);
+        json.append('{');
+        int fields = random.nextInt(7);
+        boolean hasExp = random.nextInt(6) != 0;
+        for (int i = 0; i < fields || hasExp; i++) {
+            if (json.charAt(json.length() - 1) != '{') {
+                json.append(',');
+            }
+            whitespace(random, json);
+            String key;
+            if (hasExp) {
+                key = "exp";
+                hasExp = false;
+            } else {
+                key = KEYS[random.nextInt(KEYS.length)];
+            }
+            json.append('"').append(key).append('"');
+            whitespace(random, json);
+            json.append(':');
+            whitespace(random, json);
+            json.append(randomValue(random, key, 0));
+            whitespace(random, json);
+        }
+        json.append('}');
+        whitespace(random, json);
+        if (corrupt) {
+            int corruptions = 1 + random.nextInt(3);
+            for (int i = 0; i < corruptions && json.length() > 0; i++) {
+                int position = random.nextInt(json.length());
+                switch (random.nextInt(4)) {
+                    case 0 -> json.deleteCharAt(position);
+                    case 1 -> json.insert(position, CORRUPTION.charAt(random.nextInt(CORRUPTION.length())));
+                    case 2 -> json.setCharAt(position, CORRUPTION.charAt(random.nextInt(CORRUPTION.length())));
+                    default -> json.insert(position, json, position, Math.min(json.length(), position + 6));
+                }
+            }
+        }
+        return json.toString();
+    }
+
+    private String randomValue(Random random, String key, int depth) {
+        boolean temporal = key.equals("exp") || key.equals("nbf") || key.equals("iat") || key.startsWith("e\\")
+                || key.startsWith("nb\\");
+        int choice = temporal && random.nextInt(4) != 0 ? random.nextInt(3) : 3 + random.nextInt(depth > 2 ? 8 : 10);
+        return switch (choice) {
+            case 0 -> Long.toString(now + 3600 + random.nextInt(86_400));
+            case 1 -> Long.toString(now - 3600 - random.nextInt(86_400));
+            case 2 -> switch (random.nextInt(6)) {
+                case 0 -> (now + 7200) + ".5";
+                case 1 -> (now + 7200) / 1000 + "e3";
+                case 2 -> "\"" + (now + 7200) + "\"";
+                case 3 -> "-" + (now + 7200);
+                case 4 -> "99999999999999999999";
+                default -> "0";
+            };
+            case 3 -> Integer.toString(random.nextInt(1_000_000));
+            case 4 -> "-0.25e-2";
+            case 5 -> randomString(random);
+            case 6 -> random.nextBoolean() ? "true" : "false";
+            case 7 -> "null";
+            case 8 -> "\"exp\"";
+            case 9 -> "01";
+            case 10 -> "{\"exp\":" + (now - 10) + ",\"nested\":" + randomValue(random, "exp", depth + 1) + "}";
+            default -> "[" + randomValue(random, key, depth + 1) + "," + randomValue(random, "note", depth + 1) + "]";
+        };
+    }
+
+    private String randomString(Random random) {
+        String[] strings = {
+                "\"alice\"", "\"олена\"", "\"a\\\"b\"", "\"tab\\tand\\u00e9\"", "\"\\ud83d\\ude00\"", "\"\\ud800\"",
+                "\"bad\\q\"", "\"line\nbreak\"", "\"\"", "\"exp\\\":1\"", "\"emoji \ud83d\ude00\""
+        };
+        return strings[random.nextInt(strings.length)];
+    }
+
+    private byte[] payloadBytes(Random random) {
+        String prefix = "{\"exp\":" + (now + 3600) + ",\"username\":\"";
+        byte[][] tails = {
+                {(byte) 0xC3, (byte) 0xA9},
+                {(byte) 0xC3},
+                {(byte) 0xE0, (byte) 0x80, (byte) 0x80},
+                {(byte) 0xED, (byte) 0xA0, (byte) 0x80},
+                {(byte) 0xF4, (byte) 0x90, (byte) 0x80, (byte) 0x80},
+                {(byte) 0xFF},
+                {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF},
+                {0x01}
+        };
+        byte[] tail = tails[random.nextInt(tails.length)];
+        byte[] start = prefix.getBytes(StandardCharsets.UTF_8);
+        byte[] end = "\"}".getBytes(StandardCharsets.UTF_8);
+        byte[] payload = new byte[start.length + tail.length + end.length];
+        System.arraycopy(start, 0, payload, 0, start.length);
+        System.arraycopy(tail, 0, payload, start.length, tail.length);
+        System.arraycopy(end, 0, payload, start.length + tail.length, end.length);
+        if (random.nextInt(4) == 0) {
+            byte[] withBom = new byte[payload.length + 3];
+            withBom[0] = (byte) 0xEF;
+            withBom[1] = (byte) 0xBB;
+            withBom[2] = (byte) 0xBF;
+            System.arraycopy(payload, 0, withBom, 3, payload.length);
+            return withBom;
+        }
+        return payload;
+    }
+
+    private String mutate(Random random, String token) {
+        StringBuilder mutated = new StringBuilder(token);
+        int position = random.nextInt(mutated.length());
+        char replacement = TOKEN_ALPHABET.charAt(random.nextInt(TOKEN_ALPHABET.length()));
+        switch (random.nextInt(5)) {
+            case 0 -> mutated.setCharAt(position, replacement);
+            case 1 -> mutated.insert(position, replacement);
+            case 2 -> mutated.deleteCharAt(position);
+            case 3 -> mutated.setLength(position);
+            default -> {
+                // Молодші біти останнього символу підпису не входять до 32 байтів HMAC
+                char last = mutated.charAt(mutated.length() - 1);
+                mutated.setCharAt(mutated.length() - 1, TOKEN_ALPHABET.charAt((TOKEN_ALPHABET.indexOf(last) & ~3)
+                        + random.nextInt(4)));
+            }
+        }
+        return mutated.toString();
+    }
+
+    private static boolean hasTrailingSignatureBits(String token) {
+        int signatureStart = token.lastIndexOf('.') + 1;
+        if (signatureStart == 0 || token.length() - signatureStart != 43) {
+            return false;
+        }
+        int value = TOKEN_ALPHABET.indexOf(token.charAt(token.length() - 1));
+        return value >= 0 && value < 64 && (value & 0b11) != 0;
+    }
+
+    private static String text(Object value) {
+        return value instanceof String string ? string : null;
+    }
+
+    private static void whitespace(Random random, StringBuilder json) {
+        if (random.nextInt(5) == 0) {
+            json.append(" \t\n\r".charAt(random.nextInt(4)));
+        }
+    }
+
+    private static String sign(String algorithm, String header, String payload) {
+        return sign(algorithm, header, payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String sign(String algorithm, String header, byte[] payload) {
+        String signingInput = ENCODER.encodeToString(header.getBytes(StandardCharsets.UTF_8)) + "."
+                + ENCODER.encodeToString(payload);
+        try {
+            Mac mac = Mac.getInstance(algorithm);
+            mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), algorithm));
+            return signingInput + "." + ENCODER.encodeToString(mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII)));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Outcome(boolean accepted, long expiresAt, String subject, String username, String email) {
+
+        static final Outcome REJECTED = new Outcome(false, 0, null, null, null);
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Outcome outcome && accepted == outcome.accepted && expiresAt == outcome.expiresAt
+                    && Objects.equals(subject, outcome.subject) && Objects.equals(username, outcome.username)
+                    && Objects.equals(email, outcome.email);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(accepted, expiresAt, subject, username, email);
+        }
+    }
+}
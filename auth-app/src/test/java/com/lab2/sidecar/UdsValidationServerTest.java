@@ -0,0 +1,201 @@
+package com.lab2.sidecar;
+
+import com.lab2.model.TokenData;
+import com.lab2.service.TokenService;
+import com.lab2.service.impl.TokenServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UdsValidationServerTest {
+
+    @TempDir
+    Path directory;
+
+    private TokenService tokenService;
+    private UdsValidationServer server;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        tokenService = new TokenServiceImpl();
+        set("secretKey", "testSecretKeyForJWTTokenGenerationAndValidationInAuthApplication2024");
+        set("expirationHours", 1);
+        set("applicationName", "Test Auth Application");
+        server = new UdsValidationServer(tokenService, directory.resolve("validate.sock").toString(), 1, 4096);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        server.destroy();
+    }
+
+    @Test
+    void testPipelinedRequestsAreAnsweredInOrder() throws IOException {
+        String valid = tokenService.generateToken("alice", "alice@example.com", Map.of("userId", 1L));
+        String revoked = tokenService.generateToken("bob", "bob@example.com", Map.of());
+        tokenService.invalidateToken(revoked);
+
+        try (SocketChannel channel = connect()) {
+            ByteBuffer requests = ByteBuffer.allocate(16 * 1024);
+            SidecarProtocol.writeRequest(requests, valid);
+            SidecarProtocol.writeRequest(requests, revoked);
+            SidecarProtocol.writeRequest(requests, "not-a-token");
+            SidecarProtocol.writeRequest(requests, valid);
+            requests.flip();
+            while (requests.hasRemaining()) {
+                channel.write(requests);
+            }
+
+            SidecarProtocol.Response first = read(channel);
+            assertEquals(SidecarProtocol.STATUS_VALID, first.status());
+            assertEquals("alice", first.username());
+            assertEquals("alice@example.com", first.email());
+            assertEquals("Test Auth Application", first.applicationName());
+            assertTrue(first.expiresAtEpochSecond() > System.currentTimeMillis() / 1000);
+
+            SidecarProtocol.Response second = read(channel);
+            assertEquals(SidecarProtocol.STATUS_INVALID, second.status());
+            assertEquals("Токен було інвалідовано", second.message());
+
+            assertEquals(SidecarProtocol.STATUS_INVALID, read(channel).status());
+            assertEquals("alice", read(channel).username());
+        }
+    }
+
+    @Test
+    void testOversizedFrameClosesConnection() throws IOException {
+        try (SocketChannel channel = connect()) {
+            channel.write(ByteBuffer.allocate(4).putInt(0, 1 << 20));
+            ByteBuffer buffer = ByteBuffer.allocate(16);
+            assertEquals(-1, channel.read(buffer));
+        }
+    }
+
+    @Test
+    void testSocketIsAccessibleOnlyToOwner() throws IOException {
+        assertEquals(PosixFilePermissions.fromString("rw-------"), Files.getPosixFilePermissions(server.path()));
+    }
+
+    @Test
+    void testStartRefusesPathsThatAreNotStaleSockets() throws Exception {
+        UdsValidationServer second = new UdsValidationServer(tokenService, server.path().toString(), 1, 4096);
+        assertThrows(IOException.class, second::start, "Живий сокет іншого сервера не можна перехоплювати");
+        String token = tokenService.generateToken("alice", "alice@example.com", Map.of());
+        try (SocketChannel channel = connect()) {
+            SidecarProtocol.Response response = exchange(channel, token);
+            assertEquals(SidecarProtocol.STATUS_VALID, response.status(), "Перший сервер повинен працювати далі");
+        }
+
+        Path file = Files.writeString(directory.resolve("config.yml"), "keep: me");
+        UdsValidationServer misconfigured = new UdsValidationServer(tokenService, file.toString(), 1, 4096);
+        assertThrows(IOException.class, misconfigured::start);
+        assertEquals("keep: me", Files.readString(file), "Звичайний файл не можна видаляти");
+    }
+
+    @Test
+    void testStaleSocketIsReplaced() throws Exception {
+        Path stale = directory.resolve("stale.sock");
+        try (ServerSocketChannel previous = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+            previous.bind(UnixDomainSocketAddress.of(stale));
+        }
+        assertTrue(Files.exists(stale), "Закритий сокет лишає файл після себе");
+
+        UdsValidationServer restarted = new UdsValidationServer(tokenService, stale.toString(), 1, 4096);
+        restarted.start();
+        try (SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+            channel.connect(UnixDomainSocketAddress.of(stale));
+            assertEquals(SidecarProtocol.STATUS_INVALID, exchange(channel, "not-a-token").status());
+        } finally {
+            restarted.destroy();
+        }
+    }
+
+    @Test
+    void testOversizedClaimsAndFailingRequestsDoNotStopTheLoop() throws Exception {
+        TokenService stub = mock(TokenService.class);
+        when(stub.validateToken("long")).thenReturn(new TokenData("u".repeat(2000), "long@example.com", "app",
+                null, null, Map.of()));
+        when(stub.validateToken("ok")).thenReturn(new TokenData("alice", "alice@example.com", "app",
+                null, null, Map.of()));
+        when(stub.validateToken("boom")).thenReturn(new TokenData() {
+            @Override
+            public String getUsername() {
+                throw new UnsupportedOperationException("збій після перевірки");
+            }
+        });
+        Path socket = directory.resolve("stub.sock");
+        UdsValidationServer stubbed = new UdsValidationServer(stub, socket.toString(), 1, 4096);
+        stubbed.start();
+        try (SocketChannel first = SocketChannel.open(StandardProtocolFamily.UNIX);
+             SocketChannel second = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+            first.connect(UnixDomainSocketAddress.of(socket));
+            second.connect(UnixDomainSocketAddress.of(socket));
+
+            SidecarProtocol.Response tooLong = exchange(first, "long");
+            assertEquals(SidecarProtocol.STATUS_ERROR, tooLong.status(),
+                    "Завеликі claims — помилка, а не обрізана відповідь");
+            assertEquals("alice", exchange(first, "ok").username(), "З'єднання повинно лишатися робочим");
+
+            assertEquals(SidecarProtocol.STATUS_ERROR, exchange(first, "boom").status());
+            assertEquals(-1, first.read(ByteBuffer.allocate(16)), "Збійний запит закриває своє з'єднання");
+
+            assertEquals("alice", exchange(second, "ok").username(), "Інші з'єднання того ж циклу працюють далі");
+        } finally {
+            stubbed.destroy();
+        }
+    }
+
+    private static SidecarProtocol.Response exchange(SocketChannel channel, String token) throws IOException {
+        ByteBuffer request = ByteBuffer.allocate(SidecarProtocol.HEADER_BYTES + token.length());
+        SidecarProtocol.writeRequest(request, token);
+        request.flip();
+        while (request.hasRemaining()) {
+            channel.write(request);
+        }
+        return read(channel);
+    }
+
+    private SocketChannel connect() throws IOException {
+        SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX);
+        channel.connect(UnixDomainSocketAddress.of(server.path()));
+        return channel;
+    }
+
+    private static SidecarProtocol.Response read(SocketChannel channel) throws IOException {
+        ByteBuffer header = readFully(channel, ByteBuffer.allocate(SidecarProtocol.HEADER_BYTES));
+        return SidecarProtocol.readResponse(readFully(channel, ByteBuffer.allocate(header.getInt())));
+    }
+
+    private static ByteBuffer readFully(SocketChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                fail("Сервер закрив з'єднання");
+            }
+        }
+        return buffer.flip();
+    }
+
+    private void set(String field, Object value) throws ReflectiveOperationException {
+        Field declared = TokenServiceImpl.class.getDeclaredField(field);
+        declared.setAccessible(true);
+        declared.set(tokenService, value);
+    }
+}
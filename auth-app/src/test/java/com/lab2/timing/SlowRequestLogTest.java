@@ -0,0 +1,46 @@
+package com.lab2.timing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlowRequestLogTest {
+
+    @Test
+    void testKeepsSlowestRequestsInDescendingOrder() {
+        SlowRequestLog log = new SlowRequestLog(3, 300);
+        long[] totals = {5, 1, 9, 3, 7, 2};
+
+        for (int i = 0; i < totals.length; i++) {
+            RequestTiming timing = new RequestTiming();
+            timing.add(Phase.HMAC, totals[i] * 500_000);
+            log.offer(timing, "GET", "/r" + i, 200, totals[i] * 1_000_000);
+        }
+
+        List<SlowRequest> snapshot = log.snapshot();
+        assertEquals(List.of("/r2", "/r4", "/r0"), snapshot.stream().map(SlowRequest::path).toList());
+        assertEquals(9.0, snapshot.get(0).totalMillis());
+        assertEquals(4.5, snapshot.get(0).phasesMillis().get("hmac"));
+    }
+
+    @Test
+    void testExpiredEntriesMakeRoomForNewRequests() {
+        SlowRequestLog log = new SlowRequestLog(1, 0);
+
+        log.offer(new RequestTiming(), "GET", "/slow", 200, 50_000_000);
+        log.offer(new RequestTiming(), "GET", "/fast", 200, 1_000_000);
+
+        assertTrue(log.snapshot().isEmpty(), "Записи поза вікном не повинні повертатися");
+    }
+
+    @Test
+    void testServerTimingHeaderListsRecordedPhases() {
+        RequestTiming timing = new RequestTiming();
+        timing.add(Phase.PRECHECK, 9_000);
+        timing.add(Phase.HMAC, 1_234_567);
+
+        assertEquals("precheck;dur=0.009, hmac;dur=1.234, total;dur=2.005", timing.toServerTiming(2_005_000));
+    }
+}
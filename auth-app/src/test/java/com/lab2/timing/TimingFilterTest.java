@@ -0,0 +1,58 @@
+package com.lab2.timing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingFilterTest {
+
+    private final SlowRequestLog slowRequestLog = new SlowRequestLog(5, 300);
+    private final TimingFilter filter = new TimingFilter(slowRequestLog);
+    private final TimedJacksonConverter converter = new TimedJacksonConverter(new ObjectMapper());
+
+    @Test
+    void testServerTimingHeaderIncludesJsonPhaseOfConvertedBody() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/auth"), response, (request, timedResponse) ->
+                converter.write(Map.of("status", "running"), MediaType.APPLICATION_JSON,
+                        new ServletServerHttpResponse((HttpServletResponse) timedResponse)));
+
+        String serverTiming = response.getHeader(TimingFilter.SERVER_TIMING_HEADER);
+        assertNotNull(serverTiming, "Відповідь повинна містити заголовок Server-Timing");
+        assertTrue(serverTiming.startsWith("json;dur="), serverTiming);
+        assertTrue(serverTiming.contains(", total;dur="), serverTiming);
+        assertEquals("{\"status\":\"running\"}", response.getContentAsString());
+        assertEquals(1, slowRequestLog.snapshot().size());
+        assertEquals("/api/auth", slowRequestLog.snapshot().get(0).path());
+    }
+
+    @Test
+    void testServerTimingHeaderIsSetWhenNothingIsWritten() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/"), response, (request, timedResponse) -> { });
+
+        String serverTiming = response.getHeader(TimingFilter.SERVER_TIMING_HEADER);
+        assertNotNull(serverTiming);
+        assertTrue(serverTiming.startsWith("total;dur="), serverTiming);
+    }
+
+    @Test
+    void testConverterWritesBodyWithoutTimingOutsideFilter() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        converter.write(Map.of("status", "running"), MediaType.APPLICATION_JSON, new ServletServerHttpResponse(response));
+
+        assertEquals("{\"status\":\"running\"}", response.getContentAsString());
+        assertNull(response.getHeader(TimingFilter.SERVER_TIMING_HEADER));
+    }
+}
@@ -0,0 +1,54 @@
+package com.lab2.warmup;
+
+import com.lab2.config.AuthApplication;
+import com.lab2.expiry.ExpiryScheduler;
+import com.lab2.filter.ConcurrencyLimitFilter;
+import com.lab2.limit.LimitGroup;
+import com.lab2.revocation.RevocationLog;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = AuthApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "warmup.enabled=true",
+                "warmup.iterations=200",
+                "audit.enabled=false",
+                "limits.credentials.initial=20",
+                "limits.token-validation.initial=64"
+        })
+class WarmupRunnerTest {
+
+    @Autowired
+    private WarmupState warmupState;
+
+    @Autowired
+    private ExpiryScheduler expiryScheduler;
+
+    @Autowired
+    private RevocationLog revocationLog;
+
+    @Autowired
+    private ConcurrencyLimitFilter concurrencyLimitFilter;
+
+    @Test
+    void testWarmupLeavesNoLiveState() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while (!warmupState.isComplete()) {
+            assertTrue(System.nanoTime() < deadline, "Прогрів не завершився вчасно");
+            Thread.sleep(20);
+        }
+
+        assertEquals(200, warmupState.getIterations());
+        assertEquals(0, expiryScheduler.scheduledCount(), "Прогрів не повинен лишати сесій чи записів deny-list");
+        assertEquals(0, revocationLog.size(), "Прогрів не повинен публікувати відкликання у стрічку");
+        assertEquals(20, concurrencyLimitFilter.getLimiter(LimitGroup.CREDENTIALS).getLimit(),
+                "Прогрів не повинен зачіпати ліміт входу");
+        assertEquals(64, concurrencyLimitFilter.getLimiter(LimitGroup.TOKEN_VALIDATION).getLimit(),
+                "Ліміт перевірки токенів повинен повернутися до початкового після прогріву");
+    }
+}
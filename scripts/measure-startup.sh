@@ -0,0 +1,65 @@
+#!/usr/bin/env bash
+# Вимірює час від запуску JVM до першої успішної відповіді POST /api/auth/login.
+#
+# Використання:
+#   mvn -Pfast-start package -DskipTests
+#   scripts/measure-startup.sh [default|fast-start] [кількість запусків]
+#
+# Виводить час кожного запуску та медіану в мілісекундах.
+set -euo pipefail
+
+MODE="${1:-fast-start}"
+RUNS="${2:-5}"
+PORT="${PORT:-18080}"
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+TARGET="$ROOT/auth-app/target"
+LOGIN_BODY='{"username":"startup_probe","password":"Startup1!"}'
+
+case "$MODE" in
+  default)
+    CMD=(java -jar "$TARGET/auth-app-1.0.0.jar" --server.port="$PORT")
+    ;;
+  fast-start)
+    if [[ ! -f "$TARGET/app-cds.jsa" || ! -f "$TARGET/classpath.txt" ]]; then
+      echo "Спочатку зберіть профіль: mvn -Pfast-start package -DskipTests" >&2
+      exit 1
+    fi
+    CMD=(java -XX:SharedArchiveFile="$TARGET/app-cds.jsa"
+         -Dspring.aot.enabled=true
+         -Dspring.profiles.active=fast-start
+         -cp "$TARGET/auth-app-1.0.0-cds.jar:$(cat "$TARGET/classpath.txt")"
+         com.lab2.config.AuthApplication --server.port="$PORT")
+    ;;
+  *)
+    echo "Невідомий режим: $MODE (очікується default або fast-start)" >&2
+    exit 1
+    ;;
+esac
+
+results=()
+for run in $(seq 1 "$RUNS"); do
+  started=$(date +%s%N)
+  "${CMD[@]}" > "$TARGET/startup-$MODE-$run.log" 2>&1 &
+  pid=$!
+  trap 'kill $pid 2>/dev/null || true' EXIT
+
+  until [[ "$(curl -s -o /dev/null -w '%{http_code}' -X POST -H 'Content-Type: application/json' \
+              -d "$LOGIN_BODY" "http://localhost:$PORT/api/auth/login" || true)" == "200" ]]; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "Застосунок завершився до першого входу, див. $TARGET/startup-$MODE-$run.log" >&2
+      exit 1
+    fi
+    sleep 0.02
+  done
+
+  elapsed=$(( ($(date +%s%N) - started) / 1000000 ))
+  results+=("$elapsed")
+  echo "mode=$MODE run=$run first_login_ms=$elapsed"
+
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  trap - EXIT
+done
+
+median=$(printf '%s\n' "${results[@]}" | sort -n | awk '{a[NR]=$1} END {print (NR % 2) ? a[(NR+1)/2] : int((a[NR/2] + a[NR/2+1]) / 2)}')
+echo "mode=$MODE runs=$RUNS median_first_login_ms=$median"
@@ -0,0 +1,91 @@
+package com.lab2.model;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public class ClaimsBackedTokenData extends TokenData {
+
+    private static final int USERNAME = 1;
+    private static final int EMAIL = 1 << 1;
+    private static final int APPLICATION_NAME = 1 << 2;
+    private static final int CREATED_AT = 1 << 3;
+    private static final int EXPIRES_AT = 1 << 4;
+    private static final int METADATA = 1 << 5;
+
+    private final TokenClaims claims;
+    private int overridden;
+
+    public ClaimsBackedTokenData(TokenClaims claims) {
+        this.claims = claims;
+    }
+
+    public TokenClaims getClaims() {
+        return claims;
+    }
+
+    @Override
+    public String getUsername() {
+        return (overridden & USERNAME) != 0 ? super.getUsername() : claims.getUsername();
+    }
+
+    @Override
+    public void setUsername(String username) {
+        overridden |= USERNAME;
+        super.setUsername(username);
+    }
+
+    @Override
+    public String getEmail() {
+        return (overridden & EMAIL) != 0 ? super.getEmail() : claims.getEmail();
+    }
+
+    @Override
+    public void setEmail(String email) {
+        overridden |= EMAIL;
+        super.setEmail(email);
+    }
+
+    @Override
+    public String getApplicationName() {
+        return (overridden & APPLICATION_NAME) != 0 ? super.getApplicationName() : claims.getApplicationName();
+    }
+
+    @Override
+    public void setApplicationName(String applicationName) {
+        overridden |= APPLICATION_NAME;
+        super.setApplicationName(applicationName);
+    }
+
+    @Override
+    public LocalDateTime getCreatedAt() {
+        return (overridden & CREATED_AT) != 0 ? super.getCreatedAt() : claims.getCreatedAt();
+    }
+
+    @Override
+    public void setCreatedAt(LocalDateTime createdAt) {
+        overridden |= CREATED_AT;
+        super.setCreatedAt(createdAt);
+    }
+
+    @Override
+    public LocalDateTime getExpiresAt() {
+        return (overridden & EXPIRES_AT) != 0 ? super.getExpiresAt() : claims.getExpiresAt();
+    }
+
+    @Override
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        overridden |= EXPIRES_AT;
+        super.setExpiresAt(expiresAt);
+    }
+
+    @Override
+    public Map<String, Object> getMetadata() {
+        return (overridden & METADATA) != 0 ? super.getMetadata() : claims.getMetadata();
+    }
+
+    @Override
+    public void setMetadata(Map<String, Object> metadata) {
+        overridden |= METADATA;
+        super.setMetadata(metadata);
+    }
+}
@@ -0,0 +1,23 @@
+package com.lab2.model;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public interface TokenClaims {
+
+    String getUsername();
+
+    String getEmail();
+
+    String getApplicationName();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getExpiresAt();
+
+    long getExpiresAtEpochSecond();
+
+    Map<String, Object> getMetadata();
+
+    String getString(String claim);
+}
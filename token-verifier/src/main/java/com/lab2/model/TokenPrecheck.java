@@ -0,0 +1,23 @@
+package com.lab2.model;
+
+public enum TokenPrecheck {
+    PASSED("Токен пройшов попередню перевірку"),
+    MISSING("Токен не може бути порожнім"),
+    TOO_LONG("Токен перевищує допустиму довжину"),
+    MALFORMED("Токен має некоректну структуру"),
+    BAD_ENCODING("Токен містить недопустимі символи"),
+    UNSUPPORTED_HEADER("Непідтримуваний алгоритм або ключ токену"),
+    NON_CANONICAL("Токен має нестандартну форму і потребує загальної перевірки"),
+    EXPIRED("Токен прострочено"),
+    NOT_YET_VALID("Токен ще не набув чинності");
+
+    private final String message;
+
+    TokenPrecheck(String message) {
+        this.message = message;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
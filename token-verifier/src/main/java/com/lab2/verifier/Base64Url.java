@@ -0,0 +1,56 @@
+package com.lab2.verifier;
+
+import java.util.Arrays;
+
+public final class Base64Url {
+
+    private static final byte[] DECODE_TABLE = new byte[128];
+
+    static {
+        Arrays.fill(DECODE_TABLE, (byte) -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            DECODE_TABLE[alphabet.charAt(i)] = (byte) i;
+        }
+    }
+
+    private Base64Url() {
+    }
+
+    public static boolean isAlphabet(char c) {
+        return c < 128 && DECODE_TABLE[c] >= 0;
+    }
+
+    public static int valueOf(char c) {
+        return DECODE_TABLE[c];
+    }
+
+    public static int decodedLength(int encodedLength) {
+        return encodedLength % 4 == 1 ? -1 : encodedLength * 3 / 4;
+    }
+
+    public static byte[] decode(String source, int from, int to) {
+        int length = decodedLength(to - from);
+        if (length < 0) {
+            return null;
+        }
+        byte[] out = new byte[length];
+        decodeInto(source, from, to, out);
+        return out;
+    }
+
+    public static int decodeInto(String source, int from, int to, byte[] out) {
+        int bits = 0;
+        int bitCount = 0;
+        int position = 0;
+        for (int i = from; i < to; i++) {
+            bits = (bits << 6) | DECODE_TABLE[source.charAt(i)];
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                out[position++] = (byte) (bits >> bitCount);
+            }
+        }
+        return position;
+    }
+}
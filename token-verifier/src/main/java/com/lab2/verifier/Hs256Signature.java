@@ -0,0 +1,62 @@
+package com.lab2.verifier;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+
+final class Hs256Signature {
+
+    private static final int SIGNATURE_LENGTH = 32;
+
+    private final SecretKey key;
+    private final ThreadLocal<Scratch> scratch;
+
+    Hs256Signature(SecretKey key, int maxTokenLength) {
+        this.key = key;
+        this.scratch = ThreadLocal.withInitial(() -> new Scratch(newMac(), new byte[maxTokenLength]));
+    }
+
+    boolean verify(String token, int signedLength) {
+        int signatureLength = Base64Url.decodedLength(token.length() - signedLength - 1);
+        if (signatureLength != SIGNATURE_LENGTH) {
+            return false;
+        }
+        Scratch buffers = scratch.get();
+        byte[] input = buffers.input;
+        for (int i = 0; i < signedLength; i++) {
+            input[i] = (byte) token.charAt(i);
+        }
+        Mac mac = buffers.mac;
+        mac.update(input, 0, signedLength);
+        try {
+            mac.doFinal(buffers.expected, 0);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Не вдалося обчислити підпис токену", e);
+        }
+        Base64Url.decodeInto(token, signedLength + 1, token.length(), buffers.actual);
+        return MessageDigest.isEqual(buffers.expected, buffers.actual);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 недоступний", e);
+        }
+    }
+
+    private static final class Scratch {
+        final Mac mac;
+        final byte[] input;
+        final byte[] expected = new byte[SIGNATURE_LENGTH];
+        final byte[] actual = new byte[SIGNATURE_LENGTH];
+
+        Scratch(Mac mac, byte[] input) {
+            this.mac = mac;
+            this.input = input;
+        }
+    }
+}
@@ -0,0 +1,542 @@
+package com.lab2.verifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+final class JsonPayloadReader {
+
+    static final long NOT_A_NUMBER = Long.MIN_VALUE;
+
+    private static final int MAX_DEPTH = 256;
+    private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+    private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+
+    private JsonPayloadReader() {
+    }
+
+    static byte[] key(String name) {
+        return name.getBytes(StandardCharsets.UTF_8);
+    }
+
+    static int find(byte[] json, byte[] key) {
+        int i = skipWhitespace(json, 0);
+        if (i >= json.length || json[i] != '{') {
+            return -1;
+        }
+        i++;
+        while (true) {
+            i = skipWhitespace(json, i);
+            if (i >= json.length || json[i] != '"') {
+                return -1;
+            }
+            int keyStart = i + 1;
+            int keyEnd = skipString(json, i);
+            if (keyEnd < 0) {
+                return -1;
+            }
+            boolean matches = keyEnd - 1 - keyStart == key.length
+                    && Arrays.equals(json, keyStart, keyEnd - 1, key, 0, key.length);
+            i = skipWhitespace(json, keyEnd);
+            if (i >= json.length || json[i] != ':') {
+                return -1;
+            }
+            i = skipWhitespace(json, i + 1);
+            if (matches) {
+                return i;
+            }
+            i = skipValue(json, i);
+            if (i < 0) {
+                return -1;
+            }
+            i = skipWhitespace(json, i);
+            if (i >= json.length || json[i] != ',') {
+                return -1;
+            }
+            i++;
+        }
+    }
+
+    static int[] entries(byte[] json) {
+        int i = skipWhitespace(json, 0);
+        if (i >= json.length || json[i] != '{') {
+            return new int[0];
+        }
+        int[] offsets = new int[16];
+        int count = 0;
+        i = skipWhitespace(json, i + 1);
+        while (i < json.length && json[i] == '"') {
+            int keyOffset = i;
+            i = skipString(json, i);
+            if (i < 0) {
+                break;
+            }
+            i = skipWhitespace(json, i);
+            if (i >= json.length || json[i] != ':') {
+                break;
+            }
+            int valueOffset = skipWhitespace(json, i + 1);
+            int valueEnd = skipValue(json, valueOffset);
+            if (valueEnd < 0) {
+                break;
+            }
+            if (count + 2 > offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            }
+            offsets[count++] = keyOffset;
+            offsets[count++] = valueOffset;
+            i = skipWhitespace(json, valueEnd);
+            if (i >= json.length || json[i] != ',') {
+                break;
+            }
+            i = skipWhitespace(json, i + 1);
+        }
+        return Arrays.copyOf(offsets, count);
+    }
+
+    // Строгий однопрохідний розбір за RFC 8259: повертає пари зміщень ключ/значення верхнього рівня
+    // або null, якщо вміст не є коректним об'єктом, має дубльовані чи екрановані ключі, вкладеність
+    // понад MAX_DEPTH або хвіст після об'єкта. Такий вміст лишається загальному парсеру.
+    static int[] strictEntries(byte[] json) {
+        int i = skipWhitespace(json, 0);
+        if (i >= json.length || json[i] != '{') {
+            return null;
+        }
+        int[] offsets = new int[16];
+        int count = 0;
+        i = skipWhitespace(json, i + 1);
+        if (i < json.length && json[i] == '}') {
+            return skipWhitespace(json, i + 1) == json.length ? new int[0] : null;
+        }
+        while (true) {
+            if (i >= json.length || json[i] != '"') {
+                return null;
+            }
+            int keyOffset = i;
+            i = strictString(json, i);
+            if (i < 0 || indexOf(json, keyOffset + 1, i - 1, (byte) '\\') >= 0
+                    || isDuplicate(json, offsets, count, keyOffset, i)) {
+                return null;
+            }
+            i = skipWhitespace(json, i);
+            if (i >= json.length || json[i] != ':') {
+                return null;
+            }
+            int valueOffset = skipWhitespace(json, i + 1);
+            i = strictValue(json, valueOffset, 1);
+            if (i < 0) {
+                return null;
+            }
+            if (count + 2 > offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            }
+            offsets[count++] = keyOffset;
+            offsets[count++] = valueOffset;
+            i = skipWhitespace(json, i);
+            if (i < json.length && json[i] == '}') {
+                return skipWhitespace(json, i + 1) == json.length ? Arrays.copyOf(offsets, count) : null;
+            }
+            if (i >= json.length || json[i] != ',') {
+                return null;
+            }
+            i = skipWhitespace(json, i + 1);
+        }
+    }
+
+    static int strictFind(byte[] json, int[] entries, byte[] key) {
+        for (int e = 0; e < entries.length; e += 2) {
+            int keyStart = entries[e] + 1;
+            if (keyStart + key.length < json.length && json[keyStart + key.length] == '"'
+                    && Arrays.equals(json, keyStart, keyStart + key.length, key, 0, key.length)) {
+                return entries[e + 1];
+            }
+        }
+        return -1;
+    }
+
+    static boolean stringEquals(byte[] json, int offset, String expected) {
+        if (offset < 0 || offset >= json.length || json[offset] != '"') {
+            return false;
+        }
+        int length = expected.length();
+        int i = offset + 1;
+        for (int j = 0; j < length; j++, i++) {
+            if (i >= json.length) {
+                return false;
+            }
+            byte b = json[i];
+            if (b == '\\' || b < 0) {
+                return expected.equals(readString(json, offset));
+            }
+            if (b != expected.charAt(j)) {
+                return false;
+            }
+        }
+        return i < json.length && json[i] == '"';
+    }
+
+    static int valueEnd(byte[] json, int offset) {
+        return skipValue(json, offset);
+    }
+
+    static String readString(byte[] json, int offset) {
+        if (offset < 0 || offset >= json.length || json[offset] != '"') {
+            return null;
+        }
+        int start = offset + 1;
+        int i = start;
+        boolean escaped = false;
+        while (i < json.length && json[i] != '"') {
+            if (json[i] == '\\') {
+                escaped = true;
+                i += 2;
+            } else {
+                i++;
+            }
+        }
+        if (i >= json.length) {
+            return null;
+        }
+        if (!escaped) {
+            return new String(json, start, i - start, StandardCharsets.UTF_8);
+        }
+        return unescape(json, start, i);
+    }
+
+    static long readLong(byte[] json, int offset) {
+        if (offset < 0 || offset >= json.length) {
+            return NOT_A_NUMBER;
+        }
+        int i = offset;
+        boolean negative = json[i] == '-';
+        if (negative) {
+            i++;
+        }
+        long value = 0;
+        int digits = 0;
+        while (i < json.length && json[i] >= '0' && json[i] <= '9') {
+            if (++digits > 18) {
+                return NOT_A_NUMBER;
+            }
+            value = value * 10 + (json[i] - '0');
+            i++;
+        }
+        if (digits == 0 || (i < json.length && (json[i] == '.' || json[i] == 'e' || json[i] == 'E'))) {
+            return NOT_A_NUMBER;
+        }
+        return negative ? -value : value;
+    }
+
+    private static String unescape(byte[] json, int from, int to) {
+        StringBuilder out = new StringBuilder(to - from);
+        int run = from;
+        int i = from;
+        while (i < to) {
+            if (json[i] != '\\') {
+                i++;
+                continue;
+            }
+            if (i > run) {
+                out.append(new String(json, run, i - run, StandardCharsets.UTF_8));
+            }
+            byte escape = json[i + 1];
+            i += 2;
+            switch (escape) {
+                case 'b' -> out.append('\b');
+                case 'f' -> out.append('\f');
+                case 'n' -> out.append('\n');
+                case 'r' -> out.append('\r');
+                case 't' -> out.append('\t');
+                case 'u' -> {
+                    if (i + 4 > to) {
+                        return null;
+                    }
+                    int code = 0;
+                    for (int j = 0; j < 4; j++) {
+                        int digit = Character.digit(json[i + j], 16);
+                        if (digit < 0) {
+                            return null;
+                        }
+                        code = (code << 4) | digit;
+                    }
+                    out.append((char) code);
+                    i += 4;
+                }
+                default -> out.append((char) escape);
+            }
+            run = i;
+        }
+        if (to > run) {
+            out.append(new String(json, run, to - run, StandardCharsets.UTF_8));
+        }
+        return out.toString();
+    }
+
+    private static int strictValue(byte[] json, int i, int depth) {
+        if (i >= json.length) {
+            return -1;
+        }
+        byte first = json[i];
+        if (first == '"') {
+            return strictString(json, i);
+        }
+        if (first == '{' || first == '[') {
+            if (depth >= MAX_DEPTH) {
+                return -1;
+            }
+            byte close = first == '{' ? (byte) '}' : (byte) ']';
+            i = skipWhitespace(json, i + 1);
+            if (i < json.length && json[i] == close) {
+                return i + 1;
+            }
+            while (true) {
+                if (first == '{') {
+                    if (i >= json.length || json[i] != '"') {
+                        return -1;
+                    }
+                    i = strictString(json, i);
+                    if (i < 0) {
+                        return -1;
+                    }
+                    i = skipWhitespace(json, i);
+                    if (i >= json.length || json[i] != ':') {
+                        return -1;
+                    }
+                    i = skipWhitespace(json, i + 1);
+                }
+                i = strictValue(json, i, depth + 1);
+                if (i < 0) {
+                    return -1;
+                }
+                i = skipWhitespace(json, i);
+                if (i < json.length && json[i] == close) {
+                    return i + 1;
+                }
+                if (i >= json.length || json[i] != ',') {
+                    return -1;
+                }
+                i = skipWhitespace(json, i + 1);
+            }
+        }
+        if (first == 't') {
+            return literal(json, i, TRUE);
+        }
+        if (first == 'f') {
+            return literal(json, i, FALSE);
+        }
+        if (first == 'n') {
+            return literal(json, i, NULL);
+        }
+        return strictNumber(json, i);
+    }
+
+    private static int literal(byte[] json, int i, byte[] literal) {
+        if (i + literal.length > json.length || !Arrays.equals(json, i, i + literal.length, literal, 0, literal.length)) {
+            return -1;
+        }
+        return i + literal.length;
+    }
+
+    private static int strictNumber(byte[] json, int i) {
+        int start = i;
+        if (i < json.length && json[i] == '-') {
+            i++;
+        }
+        if (i >= json.length || !isDigit(json[i])) {
+            return -1;
+        }
+        if (json[i] == '0') {
+            i++;
+        } else {
+            while (i < json.length && isDigit(json[i])) {
+                i++;
+            }
+        }
+        if (i < json.length && json[i] == '.') {
+            int digits = ++i;
+            while (i < json.length && isDigit(json[i])) {
+                i++;
+            }
+            if (i == digits) {
+                return -1;
+            }
+        }
+        if (i < json.length && (json[i] == 'e' || json[i] == 'E')) {
+            i++;
+            if (i < json.length && (json[i] == '+' || json[i] == '-')) {
+                i++;
+            }
+            int digits = i;
+            while (i < json.length && isDigit(json[i])) {
+                i++;
+            }
+            if (i == digits) {
+                return -1;
+            }
+        }
+        return i - start > 64 ? -1 : i;
+    }
+
+    private static int strictString(byte[] json, int i) {
+        i++;
+        while (i < json.length) {
+            int b = json[i] & 0xFF;
+            if (b == '"') {
+                return i + 1;
+            }
+            if (b < 0x20) {
+                return -1;
+            }
+            if (b == '\\') {
+                if (i + 1 >= json.length) {
+                    return -1;
+                }
+                byte escape = json[i + 1];
+                if (escape == 'u') {
+                    if (i + 6 > json.length) {
+                        return -1;
+                    }
+                    for (int j = i + 2; j < i + 6; j++) {
+                        if (Character.digit(json[j], 16) < 0) {
+                            return -1;
+                        }
+                    }
+                    i += 6;
+                } else if (escape == '"' || escape == '\\' || escape == '/' || escape == 'b' || escape == 'f'
+                        || escape == 'n' || escape == 'r' || escape == 't') {
+                    i += 2;
+                } else {
+                    return -1;
+                }
+            } else if (b < 0x80) {
+                i++;
+            } else {
+                i = utf8Sequence(json, i, b);
+                if (i < 0) {
+                    return -1;
+                }
+            }
+        }
+        return -1;
+    }
+
+    // Лише коректні UTF-8 послідовності без надлишкових форм і сурогатів (Unicode, таблиця 3-7).
+    private static int utf8Sequence(byte[] json, int i, int b) {
+        int length;
+        int min = 0x80;
+        int max = 0xBF;
+        if (b >= 0xC2 && b <= 0xDF) {
+            length = 2;
+        } else if (b >= 0xE0 && b <= 0xEF) {
+            length = 3;
+            if (b == 0xE0) {
+                min = 0xA0;
+            } else if (b == 0xED) {
+                max = 0x9F;
+            }
+        } else if (b >= 0xF0 && b <= 0xF4) {
+            length = 4;
+            if (b == 0xF0) {
+                min = 0x90;
+            } else if (b == 0xF4) {
+                max = 0x8F;
+            }
+        } else {
+            return -1;
+        }
+        if (i + length > json.length) {
+            return -1;
+        }
+        int second = json[i + 1] & 0xFF;
+        if (second < min || second > max) {
+            return -1;
+        }
+        for (int j = i + 2; j < i + length; j++) {
+            if ((json[j] & 0xC0) != 0x80) {
+                return -1;
+            }
+        }
+        return i + length;
+    }
+
+    private static boolean isDuplicate(byte[] json, int[] offsets, int count, int keyOffset, int keyEnd) {
+        int length = keyEnd - keyOffset;
+        for (int e = 0; e < count; e += 2) {
+            int other = offsets[e];
+            if (json.length - other >= length && json[other + length - 1] == '"'
+                    && Arrays.equals(json, other, other + length, json, keyOffset, keyEnd)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int indexOf(byte[] json, int from, int to, byte value) {
+        for (int i = from; i < to; i++) {
+            if (json[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private static int skipWhitespace(byte[] json, int i) {
+        while (i < json.length && (json[i] == ' ' || json[i] == '\t' || json[i] == '\n' || json[i] == '\r')) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int skipString(byte[] json, int i) {
+        i++;
+        while (i < json.length) {
+            if (json[i] == '"') {
+                return i + 1;
+            }
+            i += json[i] == '\\' ? 2 : 1;
+        }
+        return -1;
+    }
+
+    private static int skipValue(byte[] json, int i) {
+        if (i >= json.length) {
+            return -1;
+        }
+        byte first = json[i];
+        if (first == '"') {
+            return skipString(json, i);
+        }
+        if (first == '{' || first == '[') {
+            int depth = 0;
+            while (i < json.length) {
+                byte b = json[i];
+                if (b == '"') {
+                    i = skipString(json, i);
+                    if (i < 0) {
+                        return -1;
+                    }
+                    continue;
+                }
+                if (b == '{' || b == '[') {
+                    depth++;
+                } else if (b == '}' || b == ']') {
+                    if (--depth == 0) {
+                        return i + 1;
+                    }
+                }
+                i++;
+            }
+            return -1;
+        }
+        int start = i;
+        while (i < json.length && json[i] != ',' && json[i] != '}' && json[i] != ']'
+                && json[i] != ' ' && json[i] != '\t' && json[i] != '\n' && json[i] != '\r') {
+            i++;
+        }
+        return i > start ? i : -1;
+    }
+}
@@ -0,0 +1,129 @@
+package com.lab2.verifier;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lab2.model.TokenClaims;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+
+public final class PayloadClaims implements TokenClaims {
+
+    static final ObjectMapper MAPPER = new ObjectMapper();
+    static final Set<String> STANDARD_CLAIMS = Set.of(
+            "username", "email", "applicationName", "createdAt", "expiresAt", "sub", "iat", "exp", "gen", "sid");
+
+    private static final byte[] SUBJECT = JsonPayloadReader.key("sub");
+    private static final byte[] EMAIL = JsonPayloadReader.key("email");
+    private static final byte[] APPLICATION_NAME = JsonPayloadReader.key("applicationName");
+    private static final byte[] CREATED_AT = JsonPayloadReader.key("createdAt");
+    private static final byte[] EXPIRES_AT = JsonPayloadReader.key("expiresAt");
+    private static final byte[] EXPIRATION = JsonPayloadReader.key("exp");
+    private static final byte[] GENERATION = JsonPayloadReader.key("gen");
+
+    // Назва застосунку однакова в усіх токенах одного випуску, тож усі claims ділять один рядок.
+    private static volatile String sharedApplicationName;
+
+    private final byte[] payload;
+
+    private String username;
+    private String email;
+    private volatile long expiresAtEpochSecond = JsonPayloadReader.NOT_A_NUMBER;
+    private volatile Map<String, Object> metadata;
+
+    public PayloadClaims(byte[] payload) {
+        this.payload = payload;
+    }
+
+    public static byte[] encode(Map<String, Object> claims) {
+        try {
+            return MAPPER.writeValueAsBytes(claims);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Не вдалося серіалізувати claims: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public String getUsername() {
+        String value = username;
+        if (value == null) {
+            value = readString(SUBJECT);
+            username = value;
+        }
+        return value;
+    }
+
+    @Override
+    public String getEmail() {
+        String value = email;
+        if (value == null) {
+            value = readString(EMAIL);
+            email = value;
+        }
+        return value;
+    }
+
+    @Override
+    public String getApplicationName() {
+        int offset = JsonPayloadReader.find(payload, APPLICATION_NAME);
+        String shared = sharedApplicationName;
+        if (shared != null && JsonPayloadReader.stringEquals(payload, offset, shared)) {
+            return shared;
+        }
+        String value = JsonPayloadReader.readString(payload, offset);
+        if (value != null) {
+            sharedApplicationName = value;
+        }
+        return value;
+    }
+
+    @Override
+    public LocalDateTime getCreatedAt() {
+        return readDateTime(CREATED_AT);
+    }
+
+    @Override
+    public LocalDateTime getExpiresAt() {
+        return readDateTime(EXPIRES_AT);
+    }
+
+    @Override
+    public long getExpiresAtEpochSecond() {
+        long value = expiresAtEpochSecond;
+        if (value == JsonPayloadReader.NOT_A_NUMBER) {
+            value = JsonPayloadReader.readLong(payload, JsonPayloadReader.find(payload, EXPIRATION));
+            expiresAtEpochSecond = value;
+        }
+        return value;
+    }
+
+    public int getGeneration() {
+        long value = JsonPayloadReader.readLong(payload, JsonPayloadReader.find(payload, GENERATION));
+        return value == JsonPayloadReader.NOT_A_NUMBER ? 0 : (int) value;
+    }
+
+    @Override
+    public Map<String, Object> getMetadata() {
+        Map<String, Object> value = metadata;
+        if (value == null) {
+            value = new PayloadMetadata(payload);
+            metadata = value;
+        }
+        return value;
+    }
+
+    @Override
+    public String getString(String claim) {
+        return readString(JsonPayloadReader.key(claim));
+    }
+
+    private String readString(byte[] key) {
+        return JsonPayloadReader.readString(payload, JsonPayloadReader.find(payload, key));
+    }
+
+    private LocalDateTime readDateTime(byte[] key) {
+        String value = readString(key);
+        return value != null ? LocalDateTime.parse(value) : null;
+    }
+}
@@ -0,0 +1,113 @@
+package com.lab2.verifier;
+
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+public final class PayloadMetadata extends AbstractMap<String, Object> {
+
+    private final byte[] payload;
+    private final int[] offsets;
+
+    public PayloadMetadata(byte[] payload) {
+        this.payload = payload;
+        int[] entries = JsonPayloadReader.entries(payload);
+        int count = 0;
+        for (int i = 0; i < entries.length; i += 2) {
+            if (!PayloadClaims.STANDARD_CLAIMS.contains(JsonPayloadReader.readString(payload, entries[i]))) {
+                entries[count++] = entries[i];
+                entries[count++] = entries[i + 1];
+            }
+        }
+        this.offsets = count == entries.length ? entries : Arrays.copyOf(entries, count);
+    }
+
+    @Override
+    public Object get(Object key) {
+        int index = indexOf(key);
+        return index < 0 ? null : valueAt(index);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return offsets.length / 2;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new Iterator<>() {
+                    private int index;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < offsets.length;
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        if (index >= offsets.length) {
+                            throw new NoSuchElementException();
+                        }
+                        Entry<String, Object> entry = new SimpleImmutableEntry<>(
+                                JsonPayloadReader.readString(payload, offsets[index]), valueAt(index));
+                        index += 2;
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return PayloadMetadata.this.size();
+            }
+        };
+    }
+
+    private int indexOf(Object key) {
+        if (!(key instanceof String name)) {
+            return -1;
+        }
+        for (int i = 0; i < offsets.length; i += 2) {
+            if (JsonPayloadReader.stringEquals(payload, offsets[i], name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private Object valueAt(int index) {
+        int offset = offsets[index + 1];
+        byte first = payload[offset];
+        if (first == '"') {
+            return JsonPayloadReader.readString(payload, offset);
+        }
+        if (first == 'n') {
+            return null;
+        }
+        if (first == 't' || first == 'f') {
+            return first == 't';
+        }
+        long number = JsonPayloadReader.readLong(payload, offset);
+        if (number != JsonPayloadReader.NOT_A_NUMBER) {
+            return number;
+        }
+        int end = JsonPayloadReader.valueEnd(payload, offset);
+        try {
+            return PayloadClaims.MAPPER.readValue(payload, offset, end - offset, Object.class);
+        } catch (IOException e) {
+            throw new IllegalStateException("Невірний вміст токену: " + e.getMessage(), e);
+        }
+    }
+}
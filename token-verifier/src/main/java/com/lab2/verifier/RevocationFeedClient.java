@@ -0,0 +1,140 @@
+package com.lab2.verifier;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public final class RevocationFeedClient implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(RevocationFeedClient.class);
+
+    public static final String FEED_PATH = "/api/auth/revocations";
+    public static final String FEED_KEY_HEADER = "X-Revocation-Feed-Key";
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final String feedUri;
+    private final RevocationState state;
+    private final String feedKey;
+    private final HttpClient httpClient;
+
+    private String epoch;
+    private long cursor;
+    private volatile long lastSyncMillis;
+    private ScheduledExecutorService poller;
+
+    public RevocationFeedClient(URI serviceUri, RevocationState state) {
+        this(serviceUri, state, null);
+    }
+
+    public RevocationFeedClient(URI serviceUri, RevocationState state, String feedKey) {
+        String base = serviceUri.toString();
+        this.feedUri = (base.endsWith("/") ? base.substring(0, base.length() - 1) : base) + FEED_PATH;
+        this.state = state;
+        this.feedKey = feedKey;
+        this.httpClient = HttpClient.newBuilder().connectTimeout(REQUEST_TIMEOUT).build();
+    }
+
+    public synchronized int poll() throws IOException, InterruptedException {
+        int applied = 0;
+        boolean more = true;
+        while (more) {
+            JsonNode page = fetch(cursor);
+            String pageEpoch = page.path("epoch").asText();
+            if (epoch != null && !epoch.equals(pageEpoch)) {
+                // Сервіс перезапустився: його стан відкликань почався заново, тож і наш теж.
+                logger.info("Стрічка відкликань змінила епоху, локальний стан скинуто");
+                state.clear();
+                epoch = pageEpoch;
+                cursor = 0;
+                continue;
+            }
+            epoch = pageEpoch;
+            for (JsonNode event : page.path("events")) {
+                apply(event);
+                applied++;
+            }
+            cursor = page.path("sequence").asLong(cursor);
+            more = page.path("more").asBoolean(false);
+        }
+        state.purgeExpired(System.currentTimeMillis() / 1000);
+        lastSyncMillis = System.currentTimeMillis();
+        return applied;
+    }
+
+    public synchronized void start(Duration interval) {
+        if (poller != null) {
+            return;
+        }
+        poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "revocation-feed");
+            thread.setDaemon(true);
+            return thread;
+        });
+        poller.scheduleWithFixedDelay(this::pollQuietly, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized long cursor() {
+        return cursor;
+    }
+
+    public long lastSyncMillis() {
+        return lastSyncMillis;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (poller != null) {
+            poller.shutdownNow();
+            poller = null;
+        }
+    }
+
+    private void pollQuietly() {
+        try {
+            poll();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            logger.warn("Не вдалося отримати стрічку відкликань: {}", e.getMessage());
+        }
+    }
+
+    private JsonNode fetch(long since) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(feedUri + "?since=" + since))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json")
+                .GET();
+        if (feedKey != null && !feedKey.isEmpty()) {
+            request.header(FEED_KEY_HEADER, feedKey);
+        }
+        HttpResponse<byte[]> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IOException("Стрічка відкликань повернула статус " + response.statusCode());
+        }
+        return MAPPER.readTree(response.body());
+    }
+
+    private void apply(JsonNode event) {
+        String type = event.path("type").asText();
+        if ("token".equals(type)) {
+            state.revokeToken(event.path("fingerprint").asText(), event.path("expiresAt").asLong());
+        } else if ("generation".equals(type)) {
+            state.advanceGeneration(event.path("username").asText(), event.path("generation").asInt());
+        } else {
+            logger.debug("Пропущено невідому подію стрічки відкликань: {}", type);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.lab2.verifier;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class RevocationState {
+
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    private final Map<String, Integer> generations = new ConcurrentHashMap<>();
+
+    public boolean isRevoked(String fingerprint) {
+        return !revokedTokens.isEmpty() && revokedTokens.containsKey(fingerprint);
+    }
+
+    public int generation(String username) {
+        if (generations.isEmpty() || username == null) {
+            return 0;
+        }
+        return generations.getOrDefault(username, 0);
+    }
+
+    public void revokeToken(String fingerprint, long expiresAtEpochSecond) {
+        revokedTokens.put(fingerprint, expiresAtEpochSecond);
+    }
+
+    public void advanceGeneration(String username, int generation) {
+        generations.merge(username, generation, Math::max);
+    }
+
+    public void purgeExpired(long nowEpochSeconds) {
+        revokedTokens.values().removeIf(expiresAt -> expiresAt <= nowEpochSeconds);
+    }
+
+    public void clear() {
+        revokedTokens.clear();
+        generations.clear();
+    }
+
+    public int revokedTokenCount() {
+        return revokedTokens.size();
+    }
+}
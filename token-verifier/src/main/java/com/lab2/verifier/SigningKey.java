@@ -0,0 +1,61 @@
+package com.lab2.verifier;
+
+import com.lab2.model.TokenPrecheck;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+public final class SigningKey {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final SecretKey key;
+    private final String keyId;
+    private final TokenPrevalidator prevalidator;
+    private final Hs256Signature signature;
+
+    public SigningKey(String secret, int maxTokenLength) {
+        byte[] secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+        this.key = new SecretKeySpec(secretBytes, "HmacSHA256");
+        this.keyId = deriveKeyId(secretBytes);
+        // Той самий заголовок, який JJWT формує для header().keyId(kid) з HS256.
+        String header = "{\"kid\":\"" + keyId + "\",\"alg\":\"HS256\"}";
+        String headerSegment = ENCODER.encodeToString(header.getBytes(StandardCharsets.UTF_8));
+        this.prevalidator = new TokenPrevalidator(headerSegment, keyId, maxTokenLength);
+        this.signature = new Hs256Signature(key, maxTokenLength);
+    }
+
+    public SecretKey key() {
+        return key;
+    }
+
+    public String keyId() {
+        return keyId;
+    }
+
+    public TokenPrecheck precheck(String token, long nowEpochSeconds) {
+        return prevalidator.check(token, nowEpochSeconds);
+    }
+
+    public boolean verifySignature(String token) {
+        return signature.verify(token, token.lastIndexOf('.'));
+    }
+
+    public PayloadClaims decodeClaims(String token) {
+        int firstDot = token.indexOf('.');
+        return new PayloadClaims(Base64Url.decode(token, firstDot + 1, token.indexOf('.', firstDot + 1)));
+    }
+
+    private static String deriveKeyId(byte[] secretBytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(secretBytes);
+            return ENCODER.encodeToString(digest).substring(0, 11);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 недоступний", e);
+        }
+    }
+}
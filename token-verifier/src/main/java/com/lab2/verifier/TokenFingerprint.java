@@ -0,0 +1,46 @@
+package com.lab2.verifier;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+
+public final class TokenFingerprint {
+
+    private static final int LENGTH = 16;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final ThreadLocal<MessageDigest> DIGEST = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 недоступний", e);
+        }
+    });
+
+    private TokenFingerprint() {
+    }
+
+    // Відбиток береться від декодованого підпису, а не від рядка токену: молодші біти останнього символу
+    // підпису не потрапляють у байти, тож рядки, що різняться лише ними, проходять ту саму перевірку
+    // HMAC і повинні відкликатися разом.
+    public static String of(String token) {
+        int signatureStart = token.lastIndexOf('.') + 1;
+        byte[] signature = signatureStart > 0 && isEncoded(token, signatureStart)
+                ? Base64Url.decode(token, signatureStart, token.length())
+                : null;
+        byte[] digest = DIGEST.get().digest(signature != null && signature.length > 0
+                ? signature
+                : token.getBytes(StandardCharsets.US_ASCII));
+        return ENCODER.encodeToString(Arrays.copyOf(digest, LENGTH));
+    }
+
+    private static boolean isEncoded(String token, int from) {
+        for (int i = from; i < token.length(); i++) {
+            if (!Base64Url.isAlphabet(token.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,142 @@
+package com.lab2.verifier;
+
+import com.lab2.model.TokenPrecheck;
+
+final class TokenPrevalidator {
+
+    private static final int SIGNATURE_SEGMENT_LENGTH = 43;
+    private static final String ALGORITHM = "HS256";
+    private static final byte[] EXP_KEY = JsonPayloadReader.key("exp");
+    private static final byte[] NOT_BEFORE_KEY = JsonPayloadReader.key("nbf");
+    private static final byte[] ALG_KEY = JsonPayloadReader.key("alg");
+    private static final byte[] KID_KEY = JsonPayloadReader.key("kid");
+    private static final byte[] TYP_KEY = JsonPayloadReader.key("typ");
+    private static final byte[] ISSUED_AT_KEY = JsonPayloadReader.key("iat");
+    private static final byte[] AUDIENCE_KEY = JsonPayloadReader.key("aud");
+    private static final byte[][] STRING_CLAIM_KEYS = {
+            JsonPayloadReader.key("sub"), JsonPayloadReader.key("iss"), JsonPayloadReader.key("jti"), AUDIENCE_KEY};
+    // Більші значення JJWT не переведе в мілісекунди без переповнення
+    private static final long MAX_EPOCH_SECONDS = Long.MAX_VALUE / 1000;
+
+    private final String expectedHeaderSegment;
+    private final String keyId;
+    private final int maxLength;
+
+    TokenPrevalidator(String expectedHeaderSegment, String keyId, int maxLength) {
+        this.expectedHeaderSegment = expectedHeaderSegment;
+        this.keyId = keyId;
+        this.maxLength = maxLength;
+    }
+
+    TokenPrecheck check(String token, long nowEpochSeconds) {
+        if (token == null || token.isBlank()) {
+            return TokenPrecheck.MISSING;
+        }
+        int length = token.length();
+        if (length > maxLength) {
+            return TokenPrecheck.TOO_LONG;
+        }
+
+        int firstDot = token.indexOf('.');
+        int secondDot = firstDot < 0 ? -1 : token.indexOf('.', firstDot + 1);
+        if (firstDot <= 0 || secondDot < 0 || secondDot == firstDot + 1
+                || token.indexOf('.', secondDot + 1) >= 0) {
+            return TokenPrecheck.MALFORMED;
+        }
+
+        for (int i = 0; i < length; i++) {
+            char c = token.charAt(i);
+            if (c != '.' && !Base64Url.isAlphabet(c)) {
+                return TokenPrecheck.BAD_ENCODING;
+            }
+        }
+
+        boolean issuedHeader = firstDot == expectedHeaderSegment.length()
+                && token.regionMatches(0, expectedHeaderSegment, 0, firstDot);
+        if (!issuedHeader && !isPinnedHeader(token, firstDot)) {
+            return TokenPrecheck.UNSUPPORTED_HEADER;
+        }
+        if (length - secondDot - 1 != SIGNATURE_SEGMENT_LENGTH) {
+            return TokenPrecheck.MALFORMED;
+        }
+        // 32 байти підпису займають 256 із 258 бітів: молодші два біти останнього символу мають бути нульовими,
+        // інакше кілька різних рядків проходили б ту саму перевірку HMAC
+        if ((Base64Url.valueOf(token.charAt(length - 1)) & 0b11) != 0) {
+            return TokenPrecheck.BAD_ENCODING;
+        }
+
+        byte[] payload = Base64Url.decode(token, firstDot + 1, secondDot);
+        int[] entries = payload == null ? null : JsonPayloadReader.strictEntries(payload);
+        if (entries == null || !hasClaimTypes(payload, entries)) {
+            return TokenPrecheck.MALFORMED;
+        }
+        long exp = JsonPayloadReader.readLong(payload, JsonPayloadReader.strictFind(payload, entries, EXP_KEY));
+        if (!isEpochSecond(exp)) {
+            return TokenPrecheck.MALFORMED;
+        }
+        if (exp <= nowEpochSeconds) {
+            return TokenPrecheck.EXPIRED;
+        }
+        int notBefore = JsonPayloadReader.strictFind(payload, entries, NOT_BEFORE_KEY);
+        if (notBefore >= 0 && JsonPayloadReader.readLong(payload, notBefore) > nowEpochSeconds) {
+            return TokenPrecheck.NOT_YET_VALID;
+        }
+        // Швидкий шлях сервісу приймає лише ту форму, яку він сам видає; іншу допустиму форму
+        // (інший порядок полів заголовка, typ, nbf, aud) сервіс додатково перевіряє через JJWT.
+        return issuedHeader && notBefore < 0 && JsonPayloadReader.strictFind(payload, entries, AUDIENCE_KEY) < 0
+                ? TokenPrecheck.PASSED
+                : TokenPrecheck.NON_CANONICAL;
+    }
+
+    // Строгий розбір payload і лише ті типи зареєстрованих claims, які видає сервіс. Усе, що загальний
+    // парсер прочитав би інакше (дублікати, екрановані ключі, нецілі часові мітки, необрізаний sub),
+    // відхиляється обома перевірками однаково, а не лишається на розсуд JJWT.
+    private static boolean hasClaimTypes(byte[] payload, int[] entries) {
+        for (byte[] key : STRING_CLAIM_KEYS) {
+            int offset = JsonPayloadReader.strictFind(payload, entries, key);
+            if (offset >= 0 && !isTrimmedString(payload, offset)) {
+                return false;
+            }
+        }
+        int issuedAt = JsonPayloadReader.strictFind(payload, entries, ISSUED_AT_KEY);
+        int notBefore = JsonPayloadReader.strictFind(payload, entries, NOT_BEFORE_KEY);
+        return (issuedAt < 0 || isEpochSecond(JsonPayloadReader.readLong(payload, issuedAt)))
+                && (notBefore < 0 || isEpochSecond(JsonPayloadReader.readLong(payload, notBefore)));
+    }
+
+    // JJWT вважає порожній sub відсутнім і обрізає пробіли по краях, тому такі значення
+    // (і екранування на краях, за яким може ховатися пробіл) не приймаються.
+    private static boolean isTrimmedString(byte[] payload, int offset) {
+        if (payload[offset] != '"') {
+            return false;
+        }
+        int last = JsonPayloadReader.valueEnd(payload, offset) - 2;
+        return last > offset && isPlainEdge(payload[offset + 1]) && isPlainEdge(payload[last]);
+    }
+
+    private static boolean isPlainEdge(byte b) {
+        return b != ' ' && b != '\\';
+    }
+
+    private static boolean isEpochSecond(long value) {
+        return value >= 0 && value <= MAX_EPOCH_SECONDS;
+    }
+
+    // Заголовок іншої форми приймається лише з тими самими alg і kid, що й у виданих токенах,
+    // і без інших параметрів (crit, b64, zip тощо): HS384/HS512 чи чужий ключ відхиляються одразу.
+    private boolean isPinnedHeader(String token, int firstDot) {
+        byte[] header = Base64Url.decode(token, 0, firstDot);
+        int[] entries = header == null ? null : JsonPayloadReader.strictEntries(header);
+        if (entries == null) {
+            return false;
+        }
+        int typ = JsonPayloadReader.strictFind(header, entries, TYP_KEY);
+        int expectedEntries = typ < 0 ? 4 : 6;
+        int alg = JsonPayloadReader.strictFind(header, entries, ALG_KEY);
+        int kid = JsonPayloadReader.strictFind(header, entries, KID_KEY);
+        return entries.length == expectedEntries
+                && (typ < 0 || header[typ] == '"')
+                && JsonPayloadReader.stringEquals(header, alg, ALGORITHM)
+                && JsonPayloadReader.stringEquals(header, kid, keyId);
+    }
+}
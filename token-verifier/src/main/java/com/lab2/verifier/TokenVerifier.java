@@ -0,0 +1,87 @@
+package com.lab2.verifier;
+
+import com.lab2.model.ClaimsBackedTokenData;
+import com.lab2.model.TokenData;
+import com.lab2.model.TokenPrecheck;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public final class TokenVerifier {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenVerifier.class);
+
+    public static final int DEFAULT_MAX_TOKEN_LENGTH = 4096;
+    public static final int DEFAULT_CACHE_CAPACITY = 65536;
+
+    private static final String REFERENCE_PREFIX = "rt_";
+
+    private final SigningKey signingKey;
+    private final RevocationState revocations;
+    private final VerifiedTokenCache cache;
+    private final int maxTokenLength;
+
+    public TokenVerifier(String secret, RevocationState revocations) {
+        this(secret, revocations, DEFAULT_MAX_TOKEN_LENGTH, DEFAULT_CACHE_CAPACITY);
+    }
+
+    public TokenVerifier(String secret, RevocationState revocations, int maxTokenLength, int cacheCapacity) {
+        this.signingKey = new SigningKey(secret, maxTokenLength);
+        this.revocations = revocations;
+        this.cache = new VerifiedTokenCache(cacheCapacity);
+        this.maxTokenLength = maxTokenLength;
+    }
+
+    public TokenData verify(String token) {
+        long now = System.currentTimeMillis() / 1000;
+        VerifiedTokenCache.Entry entry = token == null || token.length() > maxTokenLength ? null : cache.get(token);
+        if (entry == null) {
+            entry = verifySigned(token, now);
+            cache.put(token, entry, now);
+        }
+
+        if (entry.expiresAtEpochSecond <= now) {
+            cache.remove(token);
+            throw new IllegalStateException("Токен прострочено");
+        }
+        if (revocations.isRevoked(entry.fingerprint)) {
+            logger.debug("Токен присутній у стрічці відкликань");
+            throw new IllegalStateException("Токен було інвалідовано");
+        }
+        if (entry.generation < revocations.generation(entry.claims.getUsername())) {
+            logger.debug("Токен належить до відкликаного покоління користувача {}", entry.claims.getUsername());
+            throw new IllegalStateException("Токен було відкликано");
+        }
+        return new ClaimsBackedTokenData(entry.claims);
+    }
+
+    public boolean isValid(String token) {
+        try {
+            verify(token);
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    int cachedTokenCount() {
+        return cache.size();
+    }
+
+    private VerifiedTokenCache.Entry verifySigned(String token, long now) {
+        if (token != null && token.startsWith(REFERENCE_PREFIX)) {
+            throw new IllegalStateException("Невірний токен: reference-токени перевіряє лише сервіс автентифікації");
+        }
+        TokenPrecheck precheck = signingKey.precheck(token, now);
+        if (precheck == TokenPrecheck.MISSING) {
+            throw new IllegalArgumentException(precheck.getMessage());
+        }
+        // NON_CANONICAL пройшов ті самі перевірки заголовка й claims, тож приймається так само, як сервісом
+        if (precheck != TokenPrecheck.PASSED && precheck != TokenPrecheck.NON_CANONICAL) {
+            throw new IllegalStateException("Невірний токен: " + precheck.getMessage());
+        }
+        if (!signingKey.verifySignature(token)) {
+            throw new IllegalStateException("Невірний токен: підпис не збігається");
+        }
+        return new VerifiedTokenCache.Entry(signingKey.decodeClaims(token), TokenFingerprint.of(token));
+    }
+}
@@ -0,0 +1,62 @@
+package com.lab2.verifier;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class VerifiedTokenCache {
+
+    private final int capacity;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    VerifiedTokenCache(int capacity) {
+        this.capacity = capacity;
+    }
+
+    Entry get(String token) {
+        return capacity > 0 ? entries.get(token) : null;
+    }
+
+    void put(String token, Entry entry, long nowEpochSeconds) {
+        if (capacity <= 0) {
+            return;
+        }
+        if (entries.size() >= capacity) {
+            evict(nowEpochSeconds);
+        }
+        entries.put(token, entry);
+    }
+
+    void remove(String token) {
+        entries.remove(token);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void evict(long nowEpochSeconds) {
+        entries.values().removeIf(entry -> entry.expiresAtEpochSecond <= nowEpochSeconds);
+        // Якщо всі записи ще живі, звільняємо восьму частину кешу в порядку обходу мапи.
+        int excess = entries.size() - capacity + Math.max(1, capacity / 8);
+        Iterator<String> tokens = entries.keySet().iterator();
+        while (excess-- > 0 && tokens.hasNext()) {
+            tokens.next();
+            tokens.remove();
+        }
+    }
+
+    static final class Entry {
+        final PayloadClaims claims;
+        final String fingerprint;
+        final long expiresAtEpochSecond;
+        final int generation;
+
+        Entry(PayloadClaims claims, String fingerprint) {
+            this.claims = claims;
+            this.fingerprint = fingerprint;
+            this.expiresAtEpochSecond = claims.getExpiresAtEpochSecond();
+            this.generation = claims.getGeneration();
+        }
+    }
+}
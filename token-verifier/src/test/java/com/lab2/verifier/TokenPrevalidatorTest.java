@@ -0,0 +1,72 @@
+package com.lab2.verifier;
+
+import com.lab2.model.TokenPrecheck;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenPrevalidatorTest {
+
+    private static final String SECRET = "testSecretKeyForJWTTokenGenerationAndValidationInAuthApplication2024";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final long NOW = 1_800_000_000L;
+
+    private final SigningKey key = new SigningKey(SECRET, TokenVerifier.DEFAULT_MAX_TOKEN_LENGTH);
+
+    @Test
+    void testExpIsFoundAsTopLevelKeyOnly() {
+        assertEquals(TokenPrecheck.PASSED, precheck("{\"sub\":\"exp\",\"username\":\"exp\",\"exp\":" + (NOW + 60) + "}"));
+        assertEquals(TokenPrecheck.PASSED, precheck("{\"sub\":\"alice\",\"email\":\"exp\",\"exp\":" + (NOW + 60) + "}"));
+        assertEquals(TokenPrecheck.PASSED, precheck("{\"sub\":\"alice\",\"exp_note\":1,\"exp\":" + (NOW + 60) + "}"));
+        assertEquals(TokenPrecheck.PASSED,
+                precheck("{\"sub\":\"alice\",\"meta\":{\"exp\":1},\"exp\":" + (NOW + 60) + "}"));
+    }
+
+    @Test
+    void testTopLevelExpDecidesExpiry() {
+        assertEquals(TokenPrecheck.EXPIRED, precheck("{\"sub\":\"exp\",\"exp\":" + (NOW - 1) + "}"));
+        assertEquals(TokenPrecheck.EXPIRED,
+                precheck("{\"sub\":\"alice\",\"meta\":{\"exp\":" + (NOW + 60) + "},\"exp\":" + NOW + "}"));
+    }
+
+    @Test
+    void testOnlyHs256WithServiceKidIsAccepted() {
+        String payload = "{\"sub\":\"alice\",\"exp\":" + (NOW + 60) + "}";
+        assertEquals(TokenPrecheck.NON_CANONICAL,
+                precheck("{\"alg\":\"HS256\",\"typ\":\"JWT\",\"kid\":\"" + key.keyId() + "\"}", payload));
+        assertEquals(TokenPrecheck.UNSUPPORTED_HEADER, precheck("{\"alg\":\"HS512\"}", payload));
+        assertEquals(TokenPrecheck.UNSUPPORTED_HEADER,
+                precheck("{\"kid\":\"" + key.keyId() + "\",\"alg\":\"HS384\"}", payload));
+        assertEquals(TokenPrecheck.UNSUPPORTED_HEADER, precheck("{\"alg\":\"HS256\"}", payload));
+        assertEquals(TokenPrecheck.UNSUPPORTED_HEADER, precheck("{\"kid\":\"other\",\"alg\":\"HS256\"}", payload));
+        assertEquals(TokenPrecheck.UNSUPPORTED_HEADER,
+                precheck("{\"kid\":\"" + key.keyId() + "\",\"alg\":\"HS256\",\"crit\":[\"exp\"]}", payload));
+    }
+
+    @Test
+    void testClaimsOutsideIssuedProfileAreRejectedBeforeSignatureCheck() {
+        assertEquals(TokenPrecheck.NON_CANONICAL,
+                precheck("{\"sub\":\"alice\",\"nbf\":" + NOW + ",\"exp\":" + (NOW + 60) + "}"));
+        assertEquals(TokenPrecheck.NOT_YET_VALID,
+                precheck("{\"sub\":\"alice\",\"nbf\":" + (NOW + 1) + ",\"exp\":" + (NOW + 60) + "}"));
+        assertEquals(TokenPrecheck.MALFORMED, precheck("{\"sub\":\"alice\",\"exp\":\"" + (NOW + 60) + "\"}"));
+        assertEquals(TokenPrecheck.MALFORMED, precheck("{\"sub\":\"alice\",\"exp\":" + (NOW + 60) + ".5}"));
+        assertEquals(TokenPrecheck.MALFORMED, precheck("{\"sub\":\" alice\",\"exp\":" + (NOW + 60) + "}"));
+        assertEquals(TokenPrecheck.MALFORMED,
+                precheck("{\"sub\":\"alice\",\"sub\":\"bob\",\"exp\":" + (NOW + 60) + "}"));
+    }
+
+    private TokenPrecheck precheck(String payload) {
+        return precheck("{\"kid\":\"" + key.keyId() + "\",\"alg\":\"HS256\"}", payload);
+    }
+
+    private TokenPrecheck precheck(String header, String payload) {
+        String token = ENCODER.encodeToString(header.getBytes(StandardCharsets.UTF_8)) + "."
+                + ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + "."
+                + ENCODER.encodeToString(new byte[32]);
+        return key.precheck(token, NOW);
+    }
+}
@@ -0,0 +1,96 @@
+package com.lab2.verifier;
+
+import com.lab2.model.TokenData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenVerifierTest {
+
+    private static final String SECRET = "testSecretKeyForJWTTokenGenerationAndValidationInAuthApplication2024";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private RevocationState revocations;
+    private TokenVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        revocations = new RevocationState();
+        verifier = new TokenVerifier(SECRET, revocations);
+    }
+
+    @Test
+    void testVerifiesSignedToken() throws Exception {
+        String token = sign("alice", 0, now() + 600);
+
+        TokenData data = verifier.verify(token);
+
+        assertEquals("alice", data.getUsername());
+        assertEquals("alice@example.com", data.getEmail());
+        assertEquals(Map.of("userId", 7L), data.getMetadata());
+        assertEquals(1, verifier.cachedTokenCount());
+    }
+
+    @Test
+    void testRejectsTamperedAndForeignTokens() throws Exception {
+        String token = sign("alice", 0, now() + 600);
+        char last = token.charAt(token.length() - 2);
+        String tampered = token.substring(0, token.length() - 2) + (last == 'A' ? 'B' : 'A') + token.charAt(token.length() - 1);
+
+        assertFalse(verifier.isValid(tampered));
+        assertFalse(new TokenVerifier("anotherSecretKeyForJWTTokenGenerationAndValidation2024", new RevocationState())
+                .isValid(token));
+        assertFalse(verifier.isValid("rt_AAAAAAAAAAAAAAAAAAAAAAAAAAA"));
+        assertThrows(IllegalArgumentException.class, () -> verifier.verify(""));
+    }
+
+    @Test
+    void testRejectsExpiredToken() throws Exception {
+        assertFalse(verifier.isValid(sign("alice", 0, now() - 1)));
+    }
+
+    @Test
+    void testAppliesRevocationsToCachedTokens() throws Exception {
+        String revoked = sign("alice", 0, now() + 600);
+        String older = sign("bob", 0, now() + 600);
+        String newer = sign("bob", 1, now() + 600);
+        assertTrue(verifier.isValid(revoked));
+        assertTrue(verifier.isValid(older));
+
+        revocations.revokeToken(TokenFingerprint.of(revoked), now() + 600);
+        revocations.advanceGeneration("bob", 1);
+
+        assertFalse(verifier.isValid(revoked));
+        assertFalse(verifier.isValid(older));
+        assertTrue(verifier.isValid(newer));
+    }
+
+    private static String sign(String username, int generation, long expiresAt) throws Exception {
+        SigningKey key = new SigningKey(SECRET, TokenVerifier.DEFAULT_MAX_TOKEN_LENGTH);
+        String header = "{\"kid\":\"" + key.keyId() + "\",\"alg\":\"HS256\"}";
+        Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put("sub", username);
+        claims.put("username", username);
+        claims.put("email", username + "@example.com");
+        claims.put("userId", 7);
+        claims.put("gen", generation);
+        claims.put("exp", expiresAt);
+        String signingInput = ENCODER.encodeToString(header.getBytes(StandardCharsets.UTF_8)) + "."
+                + ENCODER.encodeToString(PayloadClaims.encode(claims));
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return signingInput + "." + ENCODER.encodeToString(mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    private static long now() {
+        return System.currentTimeMillis() / 1000;
+    }
+}